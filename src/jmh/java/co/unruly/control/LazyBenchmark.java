@@ -0,0 +1,45 @@
+package co.unruly.control;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading an already-initialised Lazy from several threads at once, in each thread-safety mode.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class LazyBenchmark {
+
+    @Param({ "SYNCHRONIZED", "PUBLICATION", "NONE" })
+    private Lazy.ThreadSafety threadSafety;
+
+    private Lazy<String> lazy;
+
+    @Setup
+    public void setUp() {
+        lazy = new Lazy<>(() -> "config", threadSafety);
+        lazy.get();
+    }
+
+    @Benchmark
+    public String read() {
+        return lazy.get();
+    }
+}
@@ -0,0 +1,79 @@
+package co.unruly.control.result;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static co.unruly.control.result.Match.attemptMatch;
+import static co.unruly.control.result.Match.match;
+import static co.unruly.control.result.Match.matchValue;
+import static co.unruly.control.result.Recover.ifEquals;
+
+/**
+ * Measures dispatch through attemptMatch() tables of varying sizes, hitting the first
+ * matcher, the last matcher, and missing entirely, as well as resolving a match with
+ * otherwise() both through a reusable table and through matchValue().
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MatchBenchmark {
+
+    @Param({"4", "16", "64"})
+    public int matchers;
+
+    private Function<Integer, Result<String, Integer>>[] potentialMatchers;
+    private Function<Integer, Result<String, Integer>> table;
+    private Function<Integer, String> resolvingTable;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        potentialMatchers = new Function[matchers];
+        for (int i = 0; i < matchers; i++) {
+            String message = "matched " + i;
+            potentialMatchers[i] = ifEquals(i, __ -> message);
+        }
+        table = attemptMatch(potentialMatchers);
+        resolvingTable = match(potentialMatchers).otherwise(x -> "unmatched");
+    }
+
+    @Benchmark
+    public Result<String, Integer> firstMatcher() {
+        return table.apply(0);
+    }
+
+    @Benchmark
+    public Result<String, Integer> lastMatcher() {
+        return table.apply(matchers - 1);
+    }
+
+    @Benchmark
+    public Result<String, Integer> noMatch() {
+        return table.apply(-1);
+    }
+
+    @Benchmark
+    public String resolvedNoMatch() {
+        return resolvingTable.apply(-1);
+    }
+
+    @Benchmark
+    public String matchValueLastMatcher() {
+        return matchValue(matchers - 1, potentialMatchers).otherwise(x -> "unmatched");
+    }
+}
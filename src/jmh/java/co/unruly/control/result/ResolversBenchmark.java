@@ -0,0 +1,76 @@
+package co.unruly.control.result;
+
+import co.unruly.control.pair.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static co.unruly.control.result.Result.failure;
+import static co.unruly.control.result.Result.success;
+
+/**
+ * Measures collecting large streams of Results with split() and allSucceeded(), both
+ * sequentially and in parallel, and with the unordered concurrentSplit().
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResolversBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    @Param({"0.0", "0.1"})
+    public double failureRate;
+
+    private List<Result<Integer, String>> results;
+
+    @Setup
+    public void setUp() {
+        results = new ArrayList<>(size);
+        int failureEvery = failureRate == 0.0 ? Integer.MAX_VALUE : (int) (1 / failureRate);
+        for (int i = 0; i < size; i++) {
+            results.add(i % failureEvery == failureEvery - 1 ? failure("failed " + i) : success(i));
+        }
+    }
+
+    @Benchmark
+    public Pair<List<Integer>, List<String>> split() {
+        return results.stream().collect(Resolvers.split());
+    }
+
+    @Benchmark
+    public Pair<List<Integer>, List<String>> parallelSplit() {
+        return results.parallelStream().collect(Resolvers.split());
+    }
+
+    @Benchmark
+    public Result<List<Integer>, List<String>> allSucceeded() {
+        return results.stream().collect(Resolvers.allSucceeded());
+    }
+
+    @Benchmark
+    public Result<List<Integer>, List<String>> parallelAllSucceeded() {
+        return results.parallelStream().collect(Resolvers.allSucceeded());
+    }
+
+    @Benchmark
+    public Pair<List<Integer>, List<String>> parallelConcurrentSplit() {
+        return results.parallelStream().collect(Resolvers.concurrentSplit());
+    }
+}
@@ -0,0 +1,88 @@
+package co.unruly.control.result;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static co.unruly.control.result.Result.failure;
+import static co.unruly.control.result.Result.success;
+import static co.unruly.control.result.Transformers.attempt;
+import static co.unruly.control.result.Transformers.onFailure;
+import static co.unruly.control.result.Transformers.onSuccess;
+import static co.unruly.control.result.Transformers.recover;
+
+/**
+ * Measures the cost of resolving Results, and of chaining Transformers over them with then()
+ * compared to the equivalent compiled ResultPipeline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResultBenchmark {
+
+    private Result<Integer, String> success;
+    private Result<Integer, String> failure;
+
+    private Function<Result<Integer, String>, Result<String, String>> chain;
+    private Function<Result<Integer, String>, Result<String, String>> pipeline;
+
+    @Setup
+    public void setUp() {
+        success = success(42);
+        failure = failure("oh no");
+        chain = r -> r
+            .then(onSuccess(x -> x * 2))
+            .then(attempt(x -> x % 3 == 0 ? success(Integer.toString(x)) : failure("not a multiple of 3")))
+            .then(recover(f -> f.isEmpty() ? success("empty") : failure(f)))
+            .then(onFailure(String::toUpperCase));
+        pipeline = ResultPipeline.<Integer, String>pipeline()
+            .onSuccess(x -> x * 2)
+            .attempt(x -> x % 3 == 0 ? success(Integer.toString(x)) : failure("not a multiple of 3"))
+            .recover(f -> f.isEmpty() ? success("empty") : failure(f))
+            .onFailure(String::toUpperCase)
+            .compile();
+    }
+
+    @Benchmark
+    public String eitherOnSuccess() {
+        return success.either(Object::toString, f -> f);
+    }
+
+    @Benchmark
+    public String eitherOnFailure() {
+        return failure.either(Object::toString, f -> f);
+    }
+
+    @Benchmark
+    public Result<String, String> transformerChainOnSuccess() {
+        return chain.apply(success);
+    }
+
+    @Benchmark
+    public Result<String, String> transformerChainOnFailure() {
+        return chain.apply(failure);
+    }
+
+    @Benchmark
+    public Result<String, String> pipelineOnSuccess() {
+        return pipeline.apply(success);
+    }
+
+    @Benchmark
+    public Result<String, String> pipelineOnFailure() {
+        return pipeline.apply(failure);
+    }
+}
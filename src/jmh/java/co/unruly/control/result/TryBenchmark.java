@@ -0,0 +1,133 @@
+package co.unruly.control.result;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static co.unruly.control.result.Introducers.tryTo;
+import static co.unruly.control.result.Recover.ifType;
+
+/**
+ * Measures tryTo() over 1,000 inputs, 30% of which fail to parse, capturing failures as exceptions,
+ * as CaughtExceptions without stack traces, and as constants, with parsers which throw exceptions with
+ * and without stack traces, and handling failures with a Match over ifType() against an
+ * ExceptionCapture table of handlers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TryBenchmark {
+
+    private static final StacklessException NOT_A_NUMBER = new StacklessException("not a number");
+
+    private String[] inputs;
+
+    private Function<String, Result<Integer, Exception>> keepingExceptions;
+    private Function<String, Result<Integer, CaughtException>> withoutStackTraces;
+    private Function<String, Result<Integer, String>> toConstants;
+    private Function<String, Result<Integer, String>> stacklessToConstants;
+    private Function<String, Result<Integer, String>> stacklessMatchLadder;
+    private Function<String, Result<Integer, String>> stacklessHandlerTable;
+
+    @Setup
+    public void setUp() {
+        inputs = new String[1000];
+        for (int i = 0; i < inputs.length; i++) {
+            inputs[i] = i % 10 < 3 ? "x" + i : Integer.toString(i);
+        }
+
+        ExceptionCapture<String> constants = ExceptionCapture.<String>mappingWith(Exception::getMessage)
+            .mapping(NumberFormatException.class, "not a number")
+            .mapping(StacklessException.class, "not a number");
+
+        keepingExceptions = tryTo(Integer::parseInt);
+        withoutStackTraces = tryTo(Integer::parseInt, ExceptionCapture.withoutStackTraces());
+        toConstants = tryTo(Integer::parseInt, constants);
+        stacklessToConstants = tryTo(TryBenchmark::parseWithoutStackTraces, constants);
+
+        Function<Exception, String> ladder = Match.<Exception, String>match(
+            ifType(ArithmeticException.class, ex -> "arithmetic"),
+            ifType(ArrayStoreException.class, ex -> "array store"),
+            ifType(ClassCastException.class, ex -> "class cast"),
+            ifType(IllegalMonitorStateException.class, ex -> "monitor"),
+            ifType(IndexOutOfBoundsException.class, ex -> "index"),
+            ifType(NegativeArraySizeException.class, ex -> "negative size"),
+            ifType(UnsupportedOperationException.class, ex -> "unsupported"),
+            ifType(StacklessException.class, Exception::getMessage)
+        ).otherwise(Exception::getMessage);
+        ExceptionCapture<String> table = ExceptionCapture.<String>mappingWith(Exception::getMessage)
+            .handling(ArithmeticException.class, ex -> "arithmetic")
+            .handling(ArrayStoreException.class, ex -> "array store")
+            .handling(ClassCastException.class, ex -> "class cast")
+            .handling(IllegalMonitorStateException.class, ex -> "monitor")
+            .handling(IndexOutOfBoundsException.class, ex -> "index")
+            .handling(NegativeArraySizeException.class, ex -> "negative size")
+            .handling(UnsupportedOperationException.class, ex -> "unsupported")
+            .handling(StacklessException.class, Exception::getMessage);
+        stacklessMatchLadder = tryTo(TryBenchmark::parseWithoutStackTraces, ladder);
+        stacklessHandlerTable = tryTo(TryBenchmark::parseWithoutStackTraces, table);
+    }
+
+    @Benchmark
+    public void keepingExceptions(Blackhole blackhole) {
+        for (String input : inputs) {
+            blackhole.consume(keepingExceptions.apply(input));
+        }
+    }
+
+    @Benchmark
+    public void withoutStackTraces(Blackhole blackhole) {
+        for (String input : inputs) {
+            blackhole.consume(withoutStackTraces.apply(input));
+        }
+    }
+
+    @Benchmark
+    public void toConstants(Blackhole blackhole) {
+        for (String input : inputs) {
+            blackhole.consume(toConstants.apply(input));
+        }
+    }
+
+    @Benchmark
+    public void stacklessToConstants(Blackhole blackhole) {
+        for (String input : inputs) {
+            blackhole.consume(stacklessToConstants.apply(input));
+        }
+    }
+
+    @Benchmark
+    public void stacklessMatchLadder(Blackhole blackhole) {
+        for (String input : inputs) {
+            blackhole.consume(stacklessMatchLadder.apply(input));
+        }
+    }
+
+    @Benchmark
+    public void stacklessHandlerTable(Blackhole blackhole) {
+        for (String input : inputs) {
+            blackhole.consume(stacklessHandlerTable.apply(input));
+        }
+    }
+
+    private static int parseWithoutStackTraces(String input) {
+        if (input.isEmpty() || !Character.isDigit(input.charAt(0))) {
+            throw NOT_A_NUMBER;
+        }
+        return Integer.parseInt(input);
+    }
+}
@@ -0,0 +1,64 @@
+package co.unruly.control.validation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static co.unruly.control.result.Resolvers.failures;
+import static co.unruly.control.validation.Validators.compose;
+import static co.unruly.control.validation.Validators.rejectIf;
+
+/**
+ * Measures validating a batch of 100,000 items, a fifth of which fail, by applying a Validator to
+ * each item and collecting the failures, and by building a ValidationReport.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchValidationBenchmark {
+
+    private Validator<Integer, String> validator;
+    private List<Integer> items;
+
+    @Setup
+    public void setUp() {
+        validator = compose(
+            rejectIf(x -> x % 10 == 3, "ends in three"),
+            rejectIf(x -> x % 10 == 7, x -> x % 2 == 0 ? "impossible" : "ends in seven")
+        );
+        items = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<FailedValidation<Integer, String>> applyEach() {
+        return items.stream()
+            .map(validator)
+            .flatMap(failures())
+            .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public ValidationReport<Integer, String> validateAll() {
+        return validator.validateAll(items);
+    }
+
+    @Benchmark
+    public ValidationReport<Integer, String> validateAllInParallel() {
+        return validator.validateAllInParallel(items);
+    }
+}
@@ -0,0 +1,101 @@
+package co.unruly.control.validation;
+
+import co.unruly.control.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static co.unruly.control.validation.Validators.acceptIf;
+import static co.unruly.control.validation.Validators.compose;
+import static co.unruly.control.validation.Validators.on;
+import static co.unruly.control.validation.Validators.onlyIf;
+import static co.unruly.control.validation.Validators.rejectIf;
+
+/**
+ * Measures Validator.apply() and Validator.isValid() over a composed set of Validators, for valid
+ * and invalid items, both as composed and as compiled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidatorBenchmark {
+
+    private Validator<String, String> validator;
+    private Validator<String, String> compiled;
+    private Validator<String, String> sharingAccessor;
+    private Validator<String, String> compiledSharingAccessor;
+
+    @Setup
+    public void setUp() {
+        validator = compose(
+            rejectIf(String::isEmpty, "empty"),
+            acceptIf(s -> s.length() < 64, s -> "too long: " + s.length()),
+            on(s -> s.charAt(0), acceptIf(Character::isLetter, "must start with a letter")),
+            onlyIf(s -> s.contains("@"), rejectIf(s -> s.endsWith("@"), "dangling @")),
+            on(String::length, rejectIf(n -> n % 13 == 0, "unlucky length"))
+        );
+        compiled = Validators.compile(validator);
+
+        Function<String, String> domain = s -> s.substring(s.indexOf('@') + 1).toLowerCase();
+        sharingAccessor = compose(
+            on(domain, rejectIf(String::isEmpty, "no domain")),
+            on(domain, acceptIf(d -> d.contains("."), "domain has no dot")),
+            on(domain, rejectIf(d -> d.endsWith(".invalid"), "reserved domain")),
+            on(domain, acceptIf(d -> d.length() < 32, "domain too long"))
+        );
+        compiledSharingAccessor = Validators.compile(sharingAccessor);
+    }
+
+    @Benchmark
+    public Result<String, FailedValidation<String, String>> validItem() {
+        return validator.apply("someone@example.com");
+    }
+
+    @Benchmark
+    public Result<String, FailedValidation<String, String>> invalidItem() {
+        return validator.apply("1nvalid@");
+    }
+
+    @Benchmark
+    public boolean validItemIsValid() {
+        return validator.isValid("someone@example.com");
+    }
+
+    @Benchmark
+    public boolean invalidItemIsValid() {
+        return validator.isValid("1nvalid@");
+    }
+
+    @Benchmark
+    public Result<String, FailedValidation<String, String>> compiledInvalidItem() {
+        return compiled.apply("1nvalid@");
+    }
+
+    @Benchmark
+    public boolean compiledValidItemIsValid() {
+        return compiled.isValid("someone@example.com");
+    }
+
+    @Benchmark
+    public boolean sharedAccessorIsValid() {
+        return sharingAccessor.isValid("someone@Example.COM");
+    }
+
+    @Benchmark
+    public boolean compiledSharedAccessorIsValid() {
+        return compiledSharingAccessor.isValid("someone@Example.COM");
+    }
+}
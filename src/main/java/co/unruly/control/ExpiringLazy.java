@@ -0,0 +1,191 @@
+package co.unruly.control;
+
+import java.lang.ref.Reference;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Lazy container whose value expires: does not calculate the value until it's required, and
+ * recalculates it once it's older than its time-to-live.
+ * <p>
+ * By default, the first caller to find the value expired recalculates it while other callers wait.
+ * If a refresh executor is provided, the expired value keeps being served while a single refresh
+ * runs in the background; if that refresh fails, the stale value is kept, the failure is recorded
+ * in lastRefreshFailure(), and the next read after expiry tries again. A refresh only replaces the
+ * value it was refreshing, so one which finishes after the value has been invalidated is discarded.
+ * <p>
+ * The value can also be held softly or weakly, in which case it's recalculated on the next read
+ * after the garbage collector reclaims it.
+ * <pre>
+ * {@code
+ * ExpiringLazy<Token> token = new ExpiringLazy<>(authClient::fetchToken, Duration.ofMinutes(5))
+ *     .refreshingOn(executor)
+ *     .holding(SOFTLY);
+ * }
+ * </pre>
+ * @param <T> the type of object we're lazily instantiating
+ * @see Lazy
+ */
+public final class ExpiringLazy<T> {
+
+    /**
+     * How strongly the calculated value is held.
+     */
+    public enum Holding {
+        STRONGLY, SOFTLY, WEAKLY
+    }
+
+    private static final Object NULL = new Object();
+
+    private final Supplier<T> source;
+    private final long timeToLiveMillis;
+    private final Executor refreshExecutor;
+    private final Holding holding;
+    private final Clock clock;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final AtomicReference<Entry> entry = new AtomicReference<>();
+    private volatile RuntimeException lastRefreshFailure;
+
+    public ExpiringLazy(Supplier<T> source, Duration timeToLive) {
+        this(source, timeToLive.toMillis(), null, Holding.STRONGLY, Clock.systemUTC());
+    }
+
+    private ExpiringLazy(Supplier<T> source, long timeToLiveMillis, Executor refreshExecutor, Holding holding, Clock clock) {
+        this.source = source;
+        this.timeToLiveMillis = timeToLiveMillis;
+        this.refreshExecutor = refreshExecutor;
+        this.holding = holding;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns an unused copy of this ExpiringLazy which serves expired values while refreshing them on the
+     * provided executor.
+     */
+    public ExpiringLazy<T> refreshingOn(Executor executor) {
+        return new ExpiringLazy<>(source, timeToLiveMillis, executor, holding, clock);
+    }
+
+    /**
+     * Returns an unused copy of this ExpiringLazy which holds its value as specified.
+     */
+    public ExpiringLazy<T> holding(Holding holding) {
+        return new ExpiringLazy<>(source, timeToLiveMillis, refreshExecutor, holding, clock);
+    }
+
+    /**
+     * Returns an unused copy of this ExpiringLazy which uses the provided clock to decide when values expire.
+     */
+    public ExpiringLazy<T> withClock(Clock clock) {
+        return new ExpiringLazy<>(source, timeToLiveMillis, refreshExecutor, holding, clock);
+    }
+
+    public T get() {
+        Entry current = entry.get();
+        if (current != null) {
+            Object value = current.value();
+            if (value != null) {
+                if (clock.millis() < current.expiresAt) {
+                    return unmask(value);
+                }
+                if (refreshExecutor != null) {
+                    refreshInBackground(current);
+                    return unmask(value);
+                }
+            }
+        }
+        return calculateAndStore(current);
+    }
+
+    /**
+     * Discards the current value, so the next read recalculates it.
+     */
+    public void invalidate() {
+        entry.set(null);
+    }
+
+    /**
+     * Returns the exception thrown by the last background refresh, if it failed, or empty if it
+     * succeeded or there hasn't been one.
+     */
+    public Optional<RuntimeException> lastRefreshFailure() {
+        return Optional.ofNullable(lastRefreshFailure);
+    }
+
+    private synchronized T calculateAndStore(Entry seen) {
+        Entry current = entry.get();
+        if (current != seen && current != null) {
+            Object value = current.value();
+            if (value != null && clock.millis() < current.expiresAt) {
+                return unmask(value);
+            }
+        }
+        T calculatedValue = source.get();
+        replace(current, calculatedValue);
+        return calculatedValue;
+    }
+
+    private void refreshInBackground(Entry stale) {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    replace(stale, source.get());
+                    lastRefreshFailure = null;
+                } catch (RuntimeException ex) {
+                    lastRefreshFailure = ex;
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            refreshing.set(false);
+        }
+    }
+
+    /**
+     * Stores the value, unless the entry it was calculated to replace has since been replaced or invalidated
+     */
+    private void replace(Entry previous, T value) {
+        Object masked = value == null ? NULL : value;
+        Reference<Object> reference = holding == Holding.SOFTLY ? new SoftReference<>(masked)
+            : holding == Holding.WEAKLY ? new WeakReference<>(masked)
+            : null;
+        entry.compareAndSet(previous, new Entry(reference == null ? masked : null, reference, clock.millis() + timeToLiveMillis));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T unmask(Object value) {
+        return value == NULL ? null : (T) value;
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final Reference<Object> reference;
+        private final long expiresAt;
+
+        private Entry(Object value, Reference<Object> reference, long expiresAt) {
+            this.value = value;
+            this.reference = reference;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * Returns the held value, or null if it was held by a reference which has been cleared
+         */
+        private Object value() {
+            return reference == null ? value : reference.get();
+        }
+    }
+}
@@ -1,29 +1,86 @@
 package co.unruly.control;
 
-import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Supplier;
 
 /**
  * Generic lazy container: does not calculate the value until it's required.
- * Will only calculate the value once.
+ * <p>
+ * Once the value has been calculated, reading it takes no lock. How the first calculation is guarded
+ * depends on the {@link ThreadSafety} mode the Lazy was created with: by default, the value is only
+ * ever calculated once.
  * @param <T> the type of object we're lazily instantiating
  */
 public final class Lazy<T> {
 
-    private final Supplier<T> source;
-    private Optional<T> value = Optional.empty();
+    /**
+     * How a Lazy guards the calculation of its value.
+     */
+    public enum ThreadSafety {
+        /**
+         * The value is calculated at most once, under a lock which is only taken until it's available.
+         */
+        SYNCHRONIZED,
+
+        /**
+         * The value may be calculated by several threads at once, but only the first to finish is ever
+         * returned. Use this when calculating the value is cheap and free of side-effects.
+         */
+        PUBLICATION,
+
+        /**
+         * No guards at all: only use this when the Lazy is never shared between threads.
+         */
+        NONE
+    }
+
+    private static final Object UNSET = new Object();
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Lazy, Object> VALUE
+        = AtomicReferenceFieldUpdater.newUpdater(Lazy.class, Object.class, "value");
+
+    private final ThreadSafety threadSafety;
+    private volatile Supplier<T> source;
+    private volatile Object value = UNSET;
 
     public Lazy(Supplier<T> source) {
+        this(source, ThreadSafety.SYNCHRONIZED);
+    }
+
+    public Lazy(Supplier<T> source, ThreadSafety threadSafety) {
         this.source = source;
+        this.threadSafety = threadSafety;
     }
 
-    public synchronized T get() {
-        return value.orElseGet(this::calculateAndStore);
+    @SuppressWarnings("unchecked")
+    public T get() {
+        Object current = value;
+        return current != UNSET ? (T) current : calculateAndStore();
     }
 
+    @SuppressWarnings("unchecked")
     private T calculateAndStore() {
-        T calculatedValue = source.get();
-        value = Optional.of(calculatedValue);
-        return calculatedValue;
+        switch (threadSafety) {
+            case SYNCHRONIZED:
+                synchronized (this) {
+                    if (value == UNSET) {
+                        value = source.get();
+                        source = null;
+                    }
+                }
+                break;
+            case PUBLICATION:
+                Supplier<T> currentSource = source;
+                if (currentSource != null && VALUE.compareAndSet(this, UNSET, currentSource.get())) {
+                    source = null;
+                }
+                break;
+            case NONE:
+                value = source.get();
+                source = null;
+                break;
+        }
+        return (T) value;
     }
 }
@@ -5,6 +5,7 @@ import co.unruly.control.result.Result;
 
 import java.util.List;
 
+import static co.unruly.control.result.Resolvers.allSucceededOrFirstFailure;
 import static co.unruly.control.result.Resolvers.split;
 
 public interface Lists {
@@ -17,4 +18,12 @@ public interface Lists {
             return Result.failure(successesAndFailures.right);
         }
     }
+
+    /**
+     * Returns a success of all the success values if every Result in the list succeeded, otherwise a failure
+     * of the first failure value, without examining the rest of the list.
+     */
+    static <S, F> Result<List<S>, F> successesOrFirstFailure(List<Result<S, F>> results) {
+        return allSucceededOrFirstFailure(results.stream());
+    }
 }
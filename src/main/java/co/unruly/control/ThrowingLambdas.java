@@ -4,6 +4,9 @@ import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * A collection of functional interfaces which throw, and convenience functions to wrap them
@@ -108,6 +111,72 @@ public interface ThrowingLambdas {
         }
     }
 
+    /**
+     * A ToIntFunction which may throw a checked exception
+     */
+    @FunctionalInterface
+    interface ThrowingToIntFunction<T, X extends Exception> {
+        int applyAsInt(T item) throws X;
+
+        /**
+         * Converts the provided function into a regular ToIntFunction, where any thrown exceptions
+         * are wrapped in a RuntimeException
+         */
+        static <T, X extends Exception> ToIntFunction<T> throwingRuntime(ThrowingToIntFunction<T, X> f) {
+            return x -> {
+                try {
+                    return f.applyAsInt(x);
+                } catch (Exception ex) {
+                    throw new RuntimeException(ex);
+                }
+            };
+        }
+    }
+
+    /**
+     * A ToLongFunction which may throw a checked exception
+     */
+    @FunctionalInterface
+    interface ThrowingToLongFunction<T, X extends Exception> {
+        long applyAsLong(T item) throws X;
+
+        /**
+         * Converts the provided function into a regular ToLongFunction, where any thrown exceptions
+         * are wrapped in a RuntimeException
+         */
+        static <T, X extends Exception> ToLongFunction<T> throwingRuntime(ThrowingToLongFunction<T, X> f) {
+            return x -> {
+                try {
+                    return f.applyAsLong(x);
+                } catch (Exception ex) {
+                    throw new RuntimeException(ex);
+                }
+            };
+        }
+    }
+
+    /**
+     * A ToDoubleFunction which may throw a checked exception
+     */
+    @FunctionalInterface
+    interface ThrowingToDoubleFunction<T, X extends Exception> {
+        double applyAsDouble(T item) throws X;
+
+        /**
+         * Converts the provided function into a regular ToDoubleFunction, where any thrown exceptions
+         * are wrapped in a RuntimeException
+         */
+        static <T, X extends Exception> ToDoubleFunction<T> throwingRuntime(ThrowingToDoubleFunction<T, X> f) {
+            return x -> {
+                try {
+                    return f.applyAsDouble(x);
+                } catch (Exception ex) {
+                    throw new RuntimeException(ex);
+                }
+            };
+        }
+    }
+
     static <T, X extends Exception> Predicate<T> throwsWhen(ThrowingConsumer<T, X> consumer) {
         return t -> {
             try {
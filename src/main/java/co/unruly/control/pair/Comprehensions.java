@@ -5,8 +5,10 @@ import co.unruly.control.pair.Triple.TriFunction;
 import co.unruly.control.result.Result;
 
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static co.unruly.control.result.Transformers.attempt;
 import static co.unruly.control.result.Transformers.onSuccess;
@@ -68,6 +70,97 @@ public interface Comprehensions {
     }
 
 
+    /**
+     * Runs the suppliers concurrently - on virtual threads, where the runtime supports them - and returns
+     * a Pair of their successes if they all succeed. Otherwise, returns the first failure to complete,
+     * cancelling and interrupting any suppliers which are still running.
+     */
+    static <F, S1, S2> Result<Pair<S1, S2>, F> allOfConcurrently(
+        Supplier<Result<S1, F>> first,
+        Supplier<Result<S2, F>> second
+    ) {
+        return allOfConcurrently(FanOut.DEFAULT_EXECUTOR, first, second);
+    }
+
+    /**
+     * Runs the suppliers concurrently - on virtual threads, where the runtime supports them - and returns
+     * a Triple of their successes if they all succeed. Otherwise, returns the first failure to complete,
+     * cancelling and interrupting any suppliers which are still running.
+     */
+    static <F, S1, S2, S3> Result<Triple<S1, S2, S3>, F> allOfConcurrently(
+        Supplier<Result<S1, F>> first,
+        Supplier<Result<S2, F>> second,
+        Supplier<Result<S3, F>> third
+    ) {
+        return allOfConcurrently(FanOut.DEFAULT_EXECUTOR, first, second, third);
+    }
+
+    /**
+     * Runs the suppliers concurrently - on virtual threads, where the runtime supports them - and returns
+     * a Quad of their successes if they all succeed. Otherwise, returns the first failure to complete,
+     * cancelling and interrupting any suppliers which are still running.
+     */
+    static <F, S1, S2, S3, S4> Result<Quad<S1, S2, S3, S4>, F> allOfConcurrently(
+        Supplier<Result<S1, F>> first,
+        Supplier<Result<S2, F>> second,
+        Supplier<Result<S3, F>> third,
+        Supplier<Result<S4, F>> fourth
+    ) {
+        return allOfConcurrently(FanOut.DEFAULT_EXECUTOR, first, second, third, fourth);
+    }
+
+    /**
+     * Runs the suppliers concurrently on the provided executor and returns a Pair of their successes if
+     * they all succeed. Otherwise, returns the first failure to complete, cancelling and interrupting
+     * any suppliers which are still running.
+     * <p>
+     * The calling thread blocks until the outcome is known, so the executor must not be one whose threads
+     * are all occupied by callers of this method.
+     */
+    @SuppressWarnings("unchecked")
+    static <F, S1, S2> Result<Pair<S1, S2>, F> allOfConcurrently(
+        Executor executor,
+        Supplier<Result<S1, F>> first,
+        Supplier<Result<S2, F>> second
+    ) {
+        return FanOut.run(executor, first, second)
+            .then(onSuccess(values -> Pair.of((S1) values[0], (S2) values[1])));
+    }
+
+    /**
+     * Runs the suppliers concurrently on the provided executor and returns a Triple of their successes if
+     * they all succeed. Otherwise, returns the first failure to complete, cancelling and interrupting
+     * any suppliers which are still running.
+     */
+    @SuppressWarnings("unchecked")
+    static <F, S1, S2, S3> Result<Triple<S1, S2, S3>, F> allOfConcurrently(
+        Executor executor,
+        Supplier<Result<S1, F>> first,
+        Supplier<Result<S2, F>> second,
+        Supplier<Result<S3, F>> third
+    ) {
+        return FanOut.run(executor, first, second, third)
+            .then(onSuccess(values -> Triple.of((S1) values[0], (S2) values[1], (S3) values[2])));
+    }
+
+    /**
+     * Runs the suppliers concurrently on the provided executor and returns a Quad of their successes if
+     * they all succeed. Otherwise, returns the first failure to complete, cancelling and interrupting
+     * any suppliers which are still running.
+     */
+    @SuppressWarnings("unchecked")
+    static <F, S1, S2, S3, S4> Result<Quad<S1, S2, S3, S4>, F> allOfConcurrently(
+        Executor executor,
+        Supplier<Result<S1, F>> first,
+        Supplier<Result<S2, F>> second,
+        Supplier<Result<S3, F>> third,
+        Supplier<Result<S4, F>> fourth
+    ) {
+        return FanOut.run(executor, first, second, third, fourth)
+            .then(onSuccess(values -> Quad.of((S1) values[0], (S2) values[1], (S3) values[2], (S4) values[3])));
+    }
+
+
     static <F, S1, S2, SR> Function<Result<Pair<S1, S2>, F>, Result<SR, F>> ifAllSucceeded(
         BiFunction<S1, S2, SR> f
     ) {
@@ -0,0 +1,117 @@
+package co.unruly.control.pair;
+
+import co.unruly.control.result.Result;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static co.unruly.control.result.Result.success;
+import static co.unruly.control.result.Transformers.onSuccess;
+
+/**
+ * Runs a handful of Result-returning suppliers concurrently, returning as soon as they have all
+ * succeeded or one of them has failed. On the first failure, the remaining suppliers are cancelled
+ * and interrupted.
+ */
+class FanOut {
+
+    /**
+     * Uses a virtual thread per task where the runtime supports it, and otherwise a cached pool of daemon threads.
+     */
+    static final Executor DEFAULT_EXECUTOR = defaultExecutor();
+
+    private FanOut() {
+    }
+
+    /**
+     * Returns a success of the values of all the suppliers, in the order they were provided, if they all
+     * succeeded. Otherwise, returns the first failure to complete.
+     */
+    @SafeVarargs
+    static <F> Result<Object[], F> run(Executor executor, Supplier<? extends Result<?, F>>... suppliers) {
+        Object[] values = new Object[suppliers.length];
+        // generic arrays can't be created directly, but every element is a future from the completion service below
+        @SuppressWarnings("unchecked")
+        Future<Result<?, F>>[] futures = (Future<Result<?, F>>[]) new Future<?>[suppliers.length];
+
+        CompletionService<Result<?, F>> completions = new ExecutorCompletionService<>(executor);
+        try {
+            for (int i = 0; i < suppliers.length; i++) {
+                futures[i] = completions.submit(suppliers[i]::get);
+            }
+
+            for (int remaining = suppliers.length; remaining > 0; remaining--) {
+                Future<Result<?, F>> completed = completions.take();
+                int index = indexOf(completed, futures);
+                Result<?, F> result = completed.get();
+                boolean failed = result.either(value -> {
+                    values[index] = value;
+                    return false;
+                }, __ -> true);
+
+                if (failed) {
+                    cancelAll(futures);
+                    return result.then(onSuccess(__ -> values));
+                }
+            }
+            return success(values);
+        } catch (InterruptedException ex) {
+            cancelAll(futures);
+            Thread.currentThread().interrupt();
+            CancellationException cancellation = new CancellationException("Interrupted while waiting for results");
+            cancellation.initCause(ex);
+            throw cancellation;
+        } catch (ExecutionException ex) {
+            cancelAll(futures);
+            throw rethrow(ex.getCause());
+        } catch (RuntimeException | Error ex) {
+            cancelAll(futures);
+            throw ex;
+        }
+    }
+
+    private static int indexOf(Future<?> future, Future<?>[] futures) {
+        for (int i = 0; i < futures.length; i++) {
+            if (futures[i] == future) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Completed task was not submitted by this fan-out");
+    }
+
+    private static void cancelAll(Future<?>[] futures) {
+        for (Future<?> future : futures) {
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        throw new IllegalStateException(cause);
+    }
+
+    private static Executor defaultExecutor() {
+        try {
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | LinkageError | UnsupportedOperationException ex) {
+            return Executors.newCachedThreadPool(task -> {
+                Thread thread = new Thread(task, "co.unruly.control-fan-out");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package co.unruly.control.result;
+
+import co.unruly.control.ThrowingLambdas;
+import co.unruly.control.pair.Comprehensions;
+import co.unruly.control.pair.Pair;
+import co.unruly.control.pair.Quad;
+import co.unruly.control.pair.Triple;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static co.unruly.control.result.Result.failure;
+import static co.unruly.control.result.Result.success;
+import static java.util.Collections.unmodifiableList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.function.Function.identity;
+
+/**
+ * Functions for composing Results with asynchronous operations, using CompletableFuture.
+ * <p>
+ * The transformers here take a Result and return a CompletableFuture of a Result, so they compose
+ * with CompletableFuture.thenCompose(). Synchronous operations from Transformers compose with
+ * CompletableFuture.thenApply() as usual:
+ * <pre>
+ * {@code
+ * CompletableFuture<Result<Hat, String>> hat = tryToAsync(this::fetchShop, Exception::getMessage, executor)
+ *     .apply(shopId)
+ *     .thenApply(onSuccess(Shop::hatDepartment))
+ *     .thenCompose(attemptAsync(department -> client.purchaseHat(department)));
+ * }
+ * </pre>
+ * Failures are carried as Failure values, not as exceptional completions: if an input is already a failure,
+ * the returned future is already complete and no work is scheduled.
+ */
+public interface AsyncResults {
+
+    /**
+     * Returns a function which takes a value and, on the provided executor, applies the provided function to it,
+     * completing with a success of the output of that function, or a failure of the exception-mapper applied to the
+     * exception if one was thrown.
+     *
+     * @see Introducers#tryTo(ThrowingLambdas.ThrowingFunction, Function)
+     */
+    static <IS, OS, X extends Exception, F> Function<IS, CompletableFuture<Result<OS, F>>> tryToAsync(
+        ThrowingLambdas.ThrowingFunction<IS, OS, X> throwingFunction,
+        Function<Exception, F> exceptionMapper,
+        Executor executor
+    ) {
+        Function<IS, Result<OS, F>> attempt = Introducers.tryTo(throwingFunction, exceptionMapper);
+        return input -> supplyAsync(() -> attempt.apply(input), executor);
+    }
+
+    /**
+     * Returns a function which takes a value and, on the provided executor, applies the provided function to it,
+     * completing with a success of the output of that function, or a failure of the exception thrown.
+     *
+     * @see Introducers#tryTo(ThrowingLambdas.ThrowingFunction)
+     */
+    static <IS, OS, X extends Exception> Function<IS, CompletableFuture<Result<OS, Exception>>> tryToAsync(
+        ThrowingLambdas.ThrowingFunction<IS, OS, X> throwingFunction,
+        Executor executor
+    ) {
+        return tryToAsync(throwingFunction, identity(), executor);
+    }
+
+    /**
+     * Converts a future which may complete exceptionally into a future which always completes normally, with
+     * a success of the value it completed with, or a failure of the exception-mapper applied to the exception
+     * it completed with.
+     */
+    static <S, F> CompletableFuture<Result<S, F>> fromFuture(CompletionStage<S> future, Function<Throwable, F> exceptionMapper) {
+        return future.handle((value, ex) -> ex == null
+            ? Result.<S, F>success(value)
+            : Result.<S, F>failure(exceptionMapper.apply(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex))
+        ).toCompletableFuture();
+    }
+
+    /**
+     * Returns a function which takes a Result and, if it's a success, applies the mapping function to that success
+     * on the provided executor. Otherwise, returns a completed future of the original failure.
+     *
+     * @see Transformers#onSuccess(Function)
+     */
+    static <IS, OS, F> Function<Result<IS, F>, CompletableFuture<Result<OS, F>>> onSuccessAsync(
+        Function<IS, OS> mappingFunction,
+        Executor executor
+    ) {
+        return r -> r.either(
+            s -> supplyAsync(() -> success(mappingFunction.apply(s)), executor),
+            f -> completedFuture(failure(f))
+        );
+    }
+
+    /**
+     * Returns a function which takes a Result and, if it's a success, applies the provided asynchronous function
+     * to that success and returns the future Result it yields. Otherwise, returns a completed future of the original
+     * failure.
+     *
+     * @see Transformers#attempt(Function)
+     */
+    static <IS, OS, F> Function<Result<IS, F>, CompletableFuture<Result<OS, F>>> attemptAsync(
+        Function<IS, ? extends CompletionStage<Result<OS, F>>> mappingFunction
+    ) {
+        return r -> r.either(
+            s -> mappingFunction.apply(s).toCompletableFuture(),
+            f -> completedFuture(failure(f))
+        );
+    }
+
+    /**
+     * Returns a function which takes a Result and, if it's a success, applies the provided function to that success
+     * on the provided executor, yielding the Result it returns. Otherwise, returns a completed future of the original
+     * failure.
+     *
+     * @see Transformers#attempt(Function)
+     */
+    static <IS, OS, F> Function<Result<IS, F>, CompletableFuture<Result<OS, F>>> attemptAsync(
+        Function<IS, Result<OS, F>> mappingFunction,
+        Executor executor
+    ) {
+        return attemptAsync(s -> supplyAsync(() -> mappingFunction.apply(s), executor));
+    }
+
+    /**
+     * Returns a function which takes a Result and, if it's a failure, applies the mapping function to that failure
+     * on the provided executor. Otherwise, returns a completed future of the original success.
+     *
+     * @see Transformers#onFailure(Function)
+     */
+    static <S, IF, OF> Function<Result<S, IF>, CompletableFuture<Result<S, OF>>> onFailureAsync(
+        Function<IF, OF> mappingFunction,
+        Executor executor
+    ) {
+        return r -> r.either(
+            s -> completedFuture(success(s)),
+            f -> supplyAsync(() -> failure(mappingFunction.apply(f)), executor)
+        );
+    }
+
+    /**
+     * Returns a function which takes a Result and, if it's a failure, applies the provided asynchronous function
+     * to that failure and returns the future Result it yields. Otherwise, returns a completed future of the
+     * original success.
+     *
+     * @see Transformers#recover(Function)
+     */
+    static <S, IF, OF> Function<Result<S, IF>, CompletableFuture<Result<S, OF>>> recoverAsync(
+        Function<IF, ? extends CompletionStage<Result<S, OF>>> recoveryFunction
+    ) {
+        return r -> r.either(
+            s -> completedFuture(success(s)),
+            f -> recoveryFunction.apply(f).toCompletableFuture()
+        );
+    }
+
+    /**
+     * Returns a function which takes a Result and, if it's a failure, applies the provided function to that failure
+     * on the provided executor, yielding the Result it returns. Otherwise, returns a completed future of the original
+     * success.
+     *
+     * @see Transformers#recover(Function)
+     */
+    static <S, IF, OF> Function<Result<S, IF>, CompletableFuture<Result<S, OF>>> recoverAsync(
+        Function<IF, Result<S, OF>> recoveryFunction,
+        Executor executor
+    ) {
+        return recoverAsync(f -> supplyAsync(() -> recoveryFunction.apply(f), executor));
+    }
+
+    /**
+     * Combines two future Results into a future Result of a Pair, once both have completed.
+     *
+     * @see Comprehensions#allOf(Result, Result)
+     */
+    static <F, S1, S2> CompletableFuture<Result<Pair<S1, S2>, F>> allOf(
+        CompletionStage<Result<S1, F>> first,
+        CompletionStage<Result<S2, F>> second
+    ) {
+        return first.thenCombine(second, Comprehensions::allOf).toCompletableFuture();
+    }
+
+    /**
+     * Combines three future Results into a future Result of a Triple, once all have completed.
+     *
+     * @see Comprehensions#allOf(Result, Result, Result)
+     */
+    static <F, S1, S2, S3> CompletableFuture<Result<Triple<S1, S2, S3>, F>> allOf(
+        CompletionStage<Result<S1, F>> first,
+        CompletionStage<Result<S2, F>> second,
+        CompletionStage<Result<S3, F>> third
+    ) {
+        return first.thenCombine(second, Pair::of)
+            .thenCombine(third, (firstTwo, thirdResult) -> Comprehensions.allOf(firstTwo.left, firstTwo.right, thirdResult))
+            .toCompletableFuture();
+    }
+
+    /**
+     * Combines four future Results into a future Result of a Quad, once all have completed.
+     *
+     * @see Comprehensions#allOf(Result, Result, Result, Result)
+     */
+    static <F, S1, S2, S3, S4> CompletableFuture<Result<Quad<S1, S2, S3, S4>, F>> allOf(
+        CompletionStage<Result<S1, F>> first,
+        CompletionStage<Result<S2, F>> second,
+        CompletionStage<Result<S3, F>> third,
+        CompletionStage<Result<S4, F>> fourth
+    ) {
+        return first.thenCombine(second, Pair::of)
+            .thenCombine(third.thenCombine(fourth, Pair::of), (firstTwo, lastTwo) ->
+                Comprehensions.allOf(firstTwo.left, firstTwo.right, lastTwo.left, lastTwo.right))
+            .toCompletableFuture();
+    }
+
+    /**
+     * Returns a future which completes with the first success of the provided future Results to complete,
+     * or, if they all fail, a failure of the list of their failures, in the order they were provided.
+     *
+     * If any of the provided futures completes exceptionally before a success is found, the returned
+     * future completes exceptionally too.
+     */
+    @SafeVarargs
+    static <S, F> CompletableFuture<Result<S, List<F>>> anyOf(CompletionStage<Result<S, F>>... results) {
+        return anyOf(Arrays.asList(results));
+    }
+
+    /**
+     * Returns a future which completes with the first success of the provided future Results to complete,
+     * or, if they all fail, a failure of the list of their failures, in the order they were provided.
+     *
+     * If any of the provided futures completes exceptionally before a success is found, the returned
+     * future completes exceptionally too.
+     */
+    static <S, F> CompletableFuture<Result<S, List<F>>> anyOf(List<? extends CompletionStage<Result<S, F>>> results) {
+        CompletableFuture<Result<S, List<F>>> outcome = new CompletableFuture<>();
+        if (results.isEmpty()) {
+            outcome.complete(failure(unmodifiableList(new ArrayList<>())));
+            return outcome;
+        }
+
+        List<F> failures = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            failures.add(null);
+        }
+        AtomicInteger remaining = new AtomicInteger(results.size());
+
+        for (int i = 0; i < results.size(); i++) {
+            int index = i;
+            results.get(i).whenComplete((result, ex) -> {
+                if (ex != null) {
+                    outcome.completeExceptionally(ex);
+                    return;
+                }
+                result.either(
+                    value -> outcome.complete(success(value)),
+                    error -> {
+                        synchronized (failures) {
+                            failures.set(index, error);
+                        }
+                        if (remaining.decrementAndGet() == 0) {
+                            synchronized (failures) {
+                                outcome.complete(failure(unmodifiableList(failures)));
+                            }
+                        }
+                        return true;
+                    }
+                );
+            });
+        }
+        return outcome;
+    }
+}
@@ -0,0 +1,126 @@
+package co.unruly.control.result;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * How Resilience.retrying() waits between attempts: exponentially longer each time, up to a limit,
+ * with random jitter so that callers which failed together don't all retry together.
+ * <pre>
+ * {@code
+ * Backoff backoff = Backoff.exponential(Duration.ofMillis(50), Duration.ofSeconds(2))
+ *     .maxAttempts(5)
+ *     .withJitter(0.5);
+ * }
+ * </pre>
+ * The delay before the nth retry is the initial delay multiplied by the multiplier n-1 times, capped at the
+ * maximum delay, and then reduced by a random fraction of up to the jitter. By default, the multiplier is 2,
+ * the jitter is 0.5, and there are 3 attempts in all.
+ * <p>
+ * Backoffs are immutable: each method returns a new backoff.
+ */
+public final class Backoff {
+
+    /**
+     * Waits for a delay between attempts
+     */
+    @FunctionalInterface
+    public interface Sleeper {
+        void sleep(Duration delay) throws InterruptedException;
+    }
+
+    private final long initialDelayNanos;
+    private final long maxDelayNanos;
+    private final double multiplier;
+    private final double jitter;
+    private final int maxAttempts;
+    private final DoubleSupplier random;
+    private final Sleeper sleeper;
+
+    private Backoff(long initialDelayNanos, long maxDelayNanos, double multiplier, double jitter, int maxAttempts, DoubleSupplier random, Sleeper sleeper) {
+        this.initialDelayNanos = initialDelayNanos;
+        this.maxDelayNanos = maxDelayNanos;
+        this.multiplier = multiplier;
+        this.jitter = jitter;
+        this.maxAttempts = maxAttempts;
+        this.random = random;
+        this.sleeper = sleeper;
+    }
+
+    public static Backoff exponential(Duration initialDelay, Duration maxDelay) {
+        return new Backoff(
+            initialDelay.toNanos(),
+            maxDelay.toNanos(),
+            2,
+            0.5,
+            3,
+            () -> ThreadLocalRandom.current().nextDouble(),
+            delay -> Thread.sleep(delay.toMillis(), delay.getNano() % 1_000_000)
+        );
+    }
+
+    /**
+     * Sets how many attempts to make in all, including the first
+     */
+    public Backoff maxAttempts(int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Must make at least one attempt, but asked for " + maxAttempts);
+        }
+        return new Backoff(initialDelayNanos, maxDelayNanos, multiplier, jitter, maxAttempts, random, sleeper);
+    }
+
+    /**
+     * Sets how much longer each delay is than the one before
+     */
+    public Backoff withMultiplier(double multiplier) {
+        if (multiplier < 1) {
+            throw new IllegalArgumentException("Multiplier must be at least 1, but was " + multiplier);
+        }
+        return new Backoff(initialDelayNanos, maxDelayNanos, multiplier, jitter, maxAttempts, random, sleeper);
+    }
+
+    /**
+     * Sets the largest fraction of each delay which may be randomly skipped, from 0 (no jitter) to 1
+     */
+    public Backoff withJitter(double jitter) {
+        if (jitter < 0 || jitter > 1) {
+            throw new IllegalArgumentException("Jitter must be between 0 and 1, but was " + jitter);
+        }
+        return new Backoff(initialDelayNanos, maxDelayNanos, multiplier, jitter, maxAttempts, random, sleeper);
+    }
+
+    /**
+     * Sets the source of randomness for jitter
+     */
+    public Backoff withRandom(Random random) {
+        return new Backoff(initialDelayNanos, maxDelayNanos, multiplier, jitter, maxAttempts, random::nextDouble, sleeper);
+    }
+
+    /**
+     * Sets how to wait between attempts, which by default is by sleeping the calling thread
+     */
+    public Backoff withSleeper(Sleeper sleeper) {
+        return new Backoff(initialDelayNanos, maxDelayNanos, multiplier, jitter, maxAttempts, random, sleeper);
+    }
+
+    int maxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Waits before the given retry, counting from 1, returning false if interrupted
+     */
+    boolean awaitRetry(int retry) {
+        double delay = Math.min(maxDelayNanos, initialDelayNanos * Math.pow(multiplier, retry - 1));
+        long jittered = (long) (delay * (1 - jitter * random.getAsDouble()));
+        try {
+            sleeper.sleep(Duration.ofNanos(jittered));
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package co.unruly.control.result;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A function which looks up keys in batches, built by {@link Batching}.
+ * <p>
+ * Keys requested by concurrent callers are gathered into a batch, which is dispatched to the bulk loader
+ * once it's full or once the first key in it has waited long enough. Callers requesting the same key
+ * while it's in a batch share the one lookup. A batch which fills up is loaded by the caller which filled
+ * it; other batches are loaded on the configured executor. Bulk loaders usually block on I/O, so by default
+ * these are loaded on a dedicated pool of daemon threads rather than the common ForkJoinPool. If the
+ * executor rejects a batch, it's loaded on the scheduler's thread instead; if the scheduler rejects it,
+ * it's loaded straight away by the caller which started it.
+ * <p>
+ * Streams of keys are looked up in chunks, on the thread consuming the stream, without waiting for other callers.
+ * <p>
+ * If the loader throws, or returns null, the exception is rethrown to every caller waiting on that batch.
+ * If the failure mapper throws for a key, the exception is rethrown to the callers waiting on that key.
+ *
+ * @param <K> the type of keys looked up
+ * @param <V> the type of values found
+ * @param <F> the failure type for keys which weren't found
+ */
+public final class BatchedFunction<K, V, F> implements Function<K, Result<V, F>> {
+
+    private static final ScheduledExecutorService DEFAULT_SCHEDULER = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "batched-function-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Executor DEFAULT_EXECUTOR = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "batched-function-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Function<Collection<K>, Map<K, V>> loader;
+    private final Function<K, F> failureMapper;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final ScheduledExecutorService scheduler;
+    private final Executor executor;
+
+    private Batch pending;
+
+    BatchedFunction(
+        Function<Collection<K>, Map<K, V>> loader,
+        Function<K, F> failureMapper,
+        int maxBatchSize,
+        long maxWaitNanos,
+        ScheduledExecutorService scheduler,
+        Executor executor
+    ) {
+        this.loader = loader;
+        this.failureMapper = failureMapper;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWaitNanos;
+        this.scheduler = scheduler == null ? DEFAULT_SCHEDULER : scheduler;
+        this.executor = executor == null ? DEFAULT_EXECUTOR : executor;
+    }
+
+    /**
+     * Looks up the key as part of a batch, waiting until the batch has been loaded
+     */
+    @Override
+    public Result<V, F> apply(K key) {
+        try {
+            return applyAsync(key).join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Adds the key to a batch, returning a future which completes once the batch has been loaded
+     */
+    public CompletableFuture<Result<V, F>> applyAsync(K key) {
+        Batch full = null;
+        CompletableFuture<Result<V, F>> lookup;
+        synchronized (this) {
+            if (pending == null) {
+                pending = new Batch();
+                if (maxWaitNanos > 0 && maxBatchSize > 1) {
+                    Batch scheduled = pending;
+                    try {
+                        pending.timer = scheduler.schedule(() -> dispatchOnExecutor(scheduled), maxWaitNanos, TimeUnit.NANOSECONDS);
+                    } catch (RejectedExecutionException ex) {
+                        pending.unscheduled = true;
+                    }
+                }
+            }
+            lookup = pending.lookups.computeIfAbsent(key, __ -> new CompletableFuture<>());
+            if (pending.lookups.size() >= maxBatchSize || maxWaitNanos <= 0 || pending.unscheduled) {
+                full = pending;
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        return lookup;
+    }
+
+    /**
+     * Looks up each key in the stream, in chunks of up to the maximum batch size, on the thread consuming
+     * the returned stream. Results are in the same order as the keys.
+     */
+    public Stream<Result<V, F>> applyAll(Stream<K> keys) {
+        Iterator<K> remaining = keys.iterator();
+        Spliterator<Result<V, F>> results = new Spliterators.AbstractSpliterator<Result<V, F>>(Long.MAX_VALUE, Spliterator.ORDERED) {
+            private final ArrayDeque<Result<V, F>> buffer = new ArrayDeque<>();
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Result<V, F>> action) {
+                if (buffer.isEmpty() && remaining.hasNext()) {
+                    loadChunk();
+                }
+                if (buffer.isEmpty()) {
+                    return false;
+                }
+                action.accept(buffer.poll());
+                return true;
+            }
+
+            private void loadChunk() {
+                List<K> chunk = new ArrayList<>(maxBatchSize);
+                Set<K> distinct = new LinkedHashSet<>();
+                while (distinct.size() < maxBatchSize && remaining.hasNext()) {
+                    K key = remaining.next();
+                    chunk.add(key);
+                    distinct.add(key);
+                }
+                Map<K, V> found = load(distinct);
+                for (K key : chunk) {
+                    buffer.add(resultFor(key, found));
+                }
+            }
+        };
+        return StreamSupport.stream(results, false).onClose(keys::close);
+    }
+
+    /**
+     * Dispatches the current batch straight away, if there is one
+     */
+    public void flush() {
+        Batch current;
+        synchronized (this) {
+            current = pending;
+        }
+        if (current != null) {
+            dispatch(current);
+        }
+    }
+
+    private void dispatchOnExecutor(Batch batch) {
+        try {
+            executor.execute(() -> dispatch(batch));
+        } catch (RejectedExecutionException ex) {
+            dispatch(batch);
+        }
+    }
+
+    private void dispatch(Batch batch) {
+        synchronized (this) {
+            if (pending != batch) {
+                return;
+            }
+            pending = null;
+        }
+        if (batch.timer != null) {
+            batch.timer.cancel(false);
+        }
+
+        Map<K, V> found;
+        try {
+            found = load(batch.lookups.keySet());
+        } catch (RuntimeException | Error ex) {
+            batch.lookups.values().forEach(lookup -> lookup.completeExceptionally(ex));
+            return;
+        }
+
+        // every lookup must complete, or its callers wait forever
+        batch.lookups.forEach((key, lookup) -> {
+            try {
+                lookup.complete(resultFor(key, found));
+            } catch (RuntimeException | Error ex) {
+                lookup.completeExceptionally(ex);
+            }
+        });
+    }
+
+    private Map<K, V> load(Collection<K> keys) {
+        return Objects.requireNonNull(loader.apply(keys), "Bulk loader returned null rather than a Map");
+    }
+
+    private Result<V, F> resultFor(K key, Map<K, V> found) {
+        V value = found.get(key);
+        return value != null ? Result.success(value) : Result.failure(failureMapper.apply(key));
+    }
+
+    private final class Batch {
+        private final Map<K, CompletableFuture<Result<V, F>>> lookups = new LinkedHashMap<>();
+        private ScheduledFuture<?> timer;
+        private boolean unscheduled;
+    }
+}
@@ -0,0 +1,103 @@
+package co.unruly.control.result;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+
+/**
+ * Configures a function which looks up keys in batches, for lookups where one bulk call - such as a
+ * database query with an {@code IN (...)} clause - is much cheaper than a call per key.
+ * <pre>
+ * {@code
+ * BatchedFunction<Long, User, String> users = Batching.fromBulkLoader(userRepository::findAllById, id -> "No user " + id)
+ *     .maxBatchSize(500)
+ *     .maxWait(Duration.ofMillis(5))
+ *     .build();
+ * }
+ * </pre>
+ * The bulk loader is given a collection of distinct keys and returns a Map of the values it found: each key
+ * yields a success of its value, or a failure from the failure mapper if the loader didn't find a value for it.
+ * <p>
+ * By default, batches hold up to 100 keys, and concurrent callers wait up to 10ms for a batch to fill.
+ * Batches which are dispatched because they've waited long enough are loaded on a dedicated pool of daemon
+ * threads, as bulk loaders usually block: avoid dispatching on the common ForkJoinPool unless the loader doesn't.
+ * <p>
+ * Configurations are immutable: each method returns a new configuration.
+ *
+ * @param <K> the type of keys looked up
+ * @param <V> the type of values found
+ * @param <F> the failure type for keys which weren't found
+ */
+public final class Batching<K, V, F> {
+
+    private final Function<Collection<K>, Map<K, V>> loader;
+    private final Function<K, F> failureMapper;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final ScheduledExecutorService scheduler;
+    private final Executor executor;
+
+    private Batching(
+        Function<Collection<K>, Map<K, V>> loader,
+        Function<K, F> failureMapper,
+        int maxBatchSize,
+        long maxWaitNanos,
+        ScheduledExecutorService scheduler,
+        Executor executor
+    ) {
+        this.loader = loader;
+        this.failureMapper = failureMapper;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWaitNanos;
+        this.scheduler = scheduler;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts configuring a batched lookup using the provided bulk loader, and failure mapper for keys it doesn't find
+     */
+    public static <K, V, F> Batching<K, V, F> fromBulkLoader(Function<Collection<K>, Map<K, V>> loader, Function<K, F> failureMapper) {
+        return new Batching<>(loader, failureMapper, 100, Duration.ofMillis(10).toNanos(), null, null);
+    }
+
+    /**
+     * Sets the most distinct keys to load at once: a full batch is dispatched straight away
+     */
+    public Batching<K, V, F> maxBatchSize(int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Batches must hold at least one key, but asked for " + maxBatchSize);
+        }
+        return new Batching<>(loader, failureMapper, maxBatchSize, maxWaitNanos, scheduler, executor);
+    }
+
+    /**
+     * Sets how long the first caller to add a key to a batch waits for the batch to fill before it's dispatched
+     */
+    public Batching<K, V, F> maxWait(Duration maxWait) {
+        return new Batching<>(loader, failureMapper, maxBatchSize, maxWait.toNanos(), scheduler, executor);
+    }
+
+    /**
+     * Sets the scheduler used to dispatch batches which have waited long enough
+     */
+    public Batching<K, V, F> withScheduler(ScheduledExecutorService scheduler) {
+        return new Batching<>(loader, failureMapper, maxBatchSize, maxWaitNanos, scheduler, executor);
+    }
+
+    /**
+     * Sets the executor which loads batches dispatched because they've waited long enough
+     */
+    public Batching<K, V, F> dispatchingOn(Executor executor) {
+        return new Batching<>(loader, failureMapper, maxBatchSize, maxWaitNanos, scheduler, executor);
+    }
+
+    /**
+     * Builds a function which looks up keys in batches, as configured
+     */
+    public BatchedFunction<K, V, F> build() {
+        return new BatchedFunction<>(loader, failureMapper, maxBatchSize, maxWaitNanos, scheduler, executor);
+    }
+}
@@ -0,0 +1,46 @@
+package co.unruly.control.result;
+
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Limits how many calls may run at once through the functions it protects, rejecting calls beyond
+ * that limit straight away rather than letting them queue up. One bulkhead can protect several
+ * functions which call the same dependency.
+ */
+public final class Bulkhead {
+
+    private final Semaphore permits;
+
+    public Bulkhead(int maxConcurrentCalls) {
+        if (maxConcurrentCalls < 1) {
+            throw new IllegalArgumentException("Must allow at least one call, but asked for " + maxConcurrentCalls);
+        }
+        this.permits = new Semaphore(maxConcurrentCalls);
+    }
+
+    /**
+     * Returns a function which applies the provided function if fewer than the maximum number of calls
+     * are running, and otherwise returns a failure of BULKHEAD_FULL, converted by the provided function
+     */
+    public <I, O, F> Function<I, Result<O, F>> protect(Function<I, Result<O, F>> function, Function<Rejection, F> onRejection) {
+        F rejected = onRejection.apply(Rejection.BULKHEAD_FULL);
+        return input -> {
+            if (!permits.tryAcquire()) {
+                return Result.failure(rejected);
+            }
+            try {
+                return function.apply(input);
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    /**
+     * Returns how many more calls could start now
+     */
+    public int availableCalls() {
+        return permits.availablePermits();
+    }
+}
@@ -0,0 +1,66 @@
+package co.unruly.control.result;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A lightweight record of an exception caught by tryTo(), holding its type and message but, unless
+ * asked to, not the exception itself, so that failures don't keep captured stack traces alive.
+ * <p>
+ * Two CaughtExceptions are equal if they have the same type and message.
+ *
+ * @see ExceptionCapture
+ */
+public final class CaughtException {
+
+    private final Class<? extends Exception> type;
+    private final String message;
+    private final Exception exception;
+
+    CaughtException(Exception exception, boolean keepException) {
+        this.type = exception.getClass();
+        this.message = exception.getMessage();
+        this.exception = keepException ? exception : null;
+    }
+
+    public Class<? extends Exception> type() {
+        return type;
+    }
+
+    public String message() {
+        return message;
+    }
+
+    /**
+     * Returns whether the exception caught was of the given type, or a subtype of it
+     */
+    public boolean isA(Class<? extends Exception> type) {
+        return type.isAssignableFrom(this.type);
+    }
+
+    /**
+     * Returns the exception caught, if it was kept
+     */
+    public Optional<Exception> exception() {
+        return Optional.ofNullable(exception);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CaughtException that = (CaughtException) o;
+        return type.equals(that.type) &&
+               Objects.equals(message, that.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, message);
+    }
+
+    @Override
+    public String toString() {
+        return message == null ? type.getName() : type.getName() + ": " + message;
+    }
+}
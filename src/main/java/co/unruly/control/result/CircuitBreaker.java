@@ -0,0 +1,163 @@
+package co.unruly.control.result;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Stops calling a dependency which keeps failing, so callers fail fast instead of waiting on it.
+ * <p>
+ * While the breaker is closed, calls go ahead. Once enough calls in a row have failed - by returning
+ * a failure or throwing - it opens, and calls are rejected without being attempted. Once it's been open
+ * for a while, it goes half-open and lets a single probe call through: if that succeeds, the breaker
+ * closes, and otherwise it opens again. Calls are rejected while the probe is in flight, unless the probe
+ * takes longer than its timeout, in which case the next call becomes the probe instead.
+ * <p>
+ * One breaker can protect several functions which call the same dependency. Checking a closed breaker
+ * takes no locks.
+ * <pre>
+ * {@code
+ * CircuitBreaker breaker = new CircuitBreaker(5, Duration.ofSeconds(30));
+ * Function<String, Result<Account, String>> lookup = breaker.protect(tryTo(accounts::find, Exception::getMessage), Rejection::name);
+ * }
+ * </pre>
+ */
+public final class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * The breaker's state along with when it entered that state, swapped as one value so the two always agree
+     */
+    private static final class Phase {
+        private static final Phase CLOSED = new Phase(State.CLOSED, 0);
+
+        private final State state;
+        private final long since;
+
+        private Phase(State state, long since) {
+            this.state = state;
+            this.since = since;
+        }
+    }
+
+    private final int failureThreshold;
+    private final long openForMillis;
+    private final long probeTimeoutMillis;
+    private final Clock clock;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicReference<Phase> phase = new AtomicReference<>(Phase.CLOSED);
+
+    public CircuitBreaker(int failureThreshold, Duration openFor) {
+        this(failureThreshold, openFor.toMillis(), openFor.toMillis(), Clock.systemUTC());
+    }
+
+    private CircuitBreaker(int failureThreshold, long openForMillis, long probeTimeoutMillis, Clock clock) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("Failure threshold must be positive, but was " + failureThreshold);
+        }
+        this.failureThreshold = failureThreshold;
+        this.openForMillis = openForMillis;
+        this.probeTimeoutMillis = probeTimeoutMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns a new, closed copy of this breaker which uses the provided clock to decide when to probe
+     */
+    public CircuitBreaker withClock(Clock clock) {
+        return new CircuitBreaker(failureThreshold, openForMillis, probeTimeoutMillis, clock);
+    }
+
+    /**
+     * Returns a new, closed copy of this breaker which gives up waiting on a probe call after the provided
+     * time, and lets another call through as a new probe. The abandoned probe's outcome is then ignored.
+     * By default, probes are given as long as the breaker stays open for.
+     */
+    public CircuitBreaker withProbeTimeout(Duration probeTimeout) {
+        return new CircuitBreaker(failureThreshold, openForMillis, probeTimeout.toMillis(), clock);
+    }
+
+    /**
+     * Returns a function which applies the provided function while the breaker allows it, and otherwise
+     * returns a failure of CIRCUIT_OPEN, converted by the provided function
+     */
+    public <I, O, F> Function<I, Result<O, F>> protect(Function<I, Result<O, F>> function, Function<Rejection, F> onRejection) {
+        F rejected = onRejection.apply(Rejection.CIRCUIT_OPEN);
+        return input -> {
+            Phase permission = permission();
+            if (permission == null) {
+                return Result.failure(rejected);
+            }
+
+            Result<O, F> result;
+            try {
+                result = function.apply(input);
+            } catch (RuntimeException | Error ex) {
+                recordFailure(permission);
+                throw ex;
+            }
+
+            if (result.either(__ -> true, __ -> false)) {
+                recordSuccess(permission);
+            } else {
+                recordFailure(permission);
+            }
+            return result;
+        };
+    }
+
+    public State state() {
+        return phase.get().state;
+    }
+
+    /**
+     * Returns the phase the call is permitted in - CLOSED for ordinary calls, or the HALF_OPEN phase it
+     * started for a probe - or null if the call is rejected
+     */
+    private Phase permission() {
+        Phase current = phase.get();
+        if (current == Phase.CLOSED) {
+            return current;
+        }
+        long now = clock.millis();
+        long waited = now - current.since;
+        boolean mayProbe = current.state == State.OPEN ? waited >= openForMillis : waited >= probeTimeoutMillis;
+        if (mayProbe) {
+            Phase probing = new Phase(State.HALF_OPEN, now);
+            if (phase.compareAndSet(current, probing)) {
+                return probing;
+            }
+        }
+        return null;
+    }
+
+    private void recordSuccess(Phase permission) {
+        if (consecutiveFailures.get() != 0) {
+            consecutiveFailures.set(0);
+        }
+        if (permission != Phase.CLOSED) {
+            phase.compareAndSet(permission, Phase.CLOSED);
+        }
+    }
+
+    private void recordFailure(Phase permission) {
+        if (permission != Phase.CLOSED) {
+            open(permission);
+        } else if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            open(Phase.CLOSED);
+        }
+    }
+
+    private void open(Phase from) {
+        // only the caller which swaps the phase opens the breaker, and the opening time goes with it
+        if (phase.compareAndSet(from, new Phase(State.OPEN, clock.millis()))) {
+            consecutiveFailures.set(0);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package co.unruly.control.result;
+
+import co.unruly.control.result.Match.Matcher;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A dispatch table built from a list of matchers, which behaves as if each matcher were tried
+ * in turn until one succeeds, but avoids trying most of them.
+ * <p>
+ * Matchers built by Recover.ifType() are indexed by the classes they accept, in a ClassValue, and matchers
+ * built by Recover.ifEquals() are indexed by their expected values, in a HashMap. So, for any given
+ * class of input, only the type matchers which will succeed and the other matchers (which might succeed)
+ * need to be considered, along with the first equality matcher for the input value if there is one.
+ * Those are still considered in their original order, so the first matcher to succeed wins as before.
+ * <p>
+ * Matchers implementing {@link Matcher} are tested before being applied, so no Results are created unless
+ * an opaque matcher creates them. Dispatching yields the output of the matcher which succeeded, or else
+ * {@link #MISSED} if nothing matched the input, or a {@link Miss} if nothing matched and an opaque matcher
+ * replaced the input with another value to match on.
+ * <p>
+ * Equality lookups rely on the input's equals() and hashCode() being consistent with the expected values'.
+ * Null inputs, and the rare opaque matchers which return a failure of some other value than their input,
+ * fall back to trying the remaining matchers in turn.
+ */
+final class CompiledMatch<I, O> implements Function<I, Result<O, I>> {
+
+    static final Object MISSED = new Object();
+
+    // these are non-capturing, so they don't allocate when passed to either()
+    private static final Function<Object, Boolean> IS_SUCCESS = __ -> true;
+    private static final Function<Object, Boolean> IS_FAILURE = __ -> false;
+    private static final Function<Object, Object> VALUE = x -> x;
+
+    private final Function<I, Result<O, I>>[] matchers;
+    private final Map<Object, Integer> equalityMatchers = new HashMap<>();
+    private final ClassValue<int[]> candidatesByClass = new ClassValue<int[]>() {
+        @Override
+        protected int[] computeValue(Class<?> type) {
+            return candidatesFor(type);
+        }
+    };
+
+    CompiledMatch(Function<I, Result<O, I>>[] matchers) {
+        this.matchers = matchers.clone();
+        for (int i = 0; i < matchers.length; i++) {
+            if (matchers[i] instanceof EqualityMatcher) {
+                equalityMatchers.putIfAbsent(((EqualityMatcher<?, ?>) matchers[i]).expectedValue, i);
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Result<O, I> apply(I input) {
+        Object outcome = dispatch(input);
+        if (outcome == MISSED) {
+            return Result.failure(input);
+        }
+        if (outcome instanceof Miss) {
+            return Result.failure((I) ((Miss) outcome).value);
+        }
+        return Result.success((O) outcome);
+    }
+
+    /**
+     * Returns the output of the first matcher to succeed on the input, or else MISSED or a Miss
+     */
+    @SuppressWarnings("unchecked")
+    Object dispatch(I input) {
+        if (input == null) {
+            return dispatchInTurn(matchers, input, 0);
+        }
+
+        Integer equalityMatch = equalityMatchers.isEmpty() ? null : equalityMatchers.get(input);
+        int equalityIndex = equalityMatch == null ? Integer.MAX_VALUE : equalityMatch;
+
+        for (int index : candidatesByClass.get(input.getClass())) {
+            if (index > equalityIndex) {
+                break;
+            }
+
+            Function<I, Result<O, I>> matcher = matchers[index];
+            if (matcher instanceof TypeMatcher) {
+                return ((TypeMatcher<O, I, ?>) matcher).applyMatched(input);
+            }
+            if (matcher instanceof Matcher) {
+                Matcher<I, O> testable = (Matcher<I, O>) matcher;
+                if (testable.matches(input)) {
+                    return testable.applyMatched(input);
+                }
+                continue;
+            }
+
+            Result<Object, Object> result = (Result<Object, Object>) (Result<?, ?>) matcher.apply(input);
+            Object value = result.either(VALUE, VALUE);
+            if (result.either(IS_SUCCESS, IS_FAILURE)) {
+                return value;
+            }
+            if (value != input) {
+                // the rest of the matchers see the replacement, so a miss from here on is a miss of the replacement
+                Object outcome = dispatchInTurn(matchers, (I) value, index + 1);
+                return outcome == MISSED ? new Miss(value) : outcome;
+            }
+        }
+
+        return equalityMatch == null
+            ? MISSED
+            : ((EqualityMatcher<O, I>) matchers[equalityIndex]).applyMatched(input);
+    }
+
+    /**
+     * Tries each of the matchers in turn, from the given index, returning the output of the first to
+     * succeed on the input, or else MISSED or a Miss
+     */
+    @SuppressWarnings("unchecked")
+    static <I, O> Object dispatchInTurn(Function<I, Result<O, I>>[] matchers, I input, int from) {
+        I current = input;
+        for (int i = from; i < matchers.length; i++) {
+            Function<I, Result<O, I>> matcher = matchers[i];
+            if (matcher instanceof Matcher) {
+                Matcher<I, O> testable = (Matcher<I, O>) matcher;
+                if (testable.matches(current)) {
+                    return testable.applyMatched(current);
+                }
+                continue;
+            }
+
+            Result<Object, Object> result = (Result<Object, Object>) (Result<?, ?>) matcher.apply(current);
+            Object value = result.either(VALUE, VALUE);
+            if (result.either(IS_SUCCESS, IS_FAILURE)) {
+                return value;
+            }
+            current = (I) value;
+        }
+        return current == input ? MISSED : new Miss(current);
+    }
+
+    /**
+     * Resolves the outcome of a dispatch, applying the base case to the unmatched value if nothing matched
+     */
+    @SuppressWarnings("unchecked")
+    static <I, O> O resolve(Object outcome, I input, Function<I, O> baseCase) {
+        if (outcome == MISSED) {
+            return baseCase.apply(input);
+        }
+        if (outcome instanceof Miss) {
+            return baseCase.apply((I) ((Miss) outcome).value);
+        }
+        return (O) outcome;
+    }
+
+    private int[] candidatesFor(Class<?> type) {
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < matchers.length; i++) {
+            Function<I, Result<O, I>> matcher = matchers[i];
+            if (matcher instanceof TypeMatcher) {
+                if (((TypeMatcher<?, ?, ?>) matcher).targetClass.isAssignableFrom(type)) {
+                    candidates.add(i);
+                }
+            } else if (!(matcher instanceof EqualityMatcher)) {
+                candidates.add(i);
+            }
+        }
+        return candidates.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * A dispatch table which tries each matcher in turn until it's been used often enough to be worth
+     * compiling. Building the indexes costs more than a linear scan does, so tables used for a one-off
+     * match never build them.
+     */
+    static final class Deferred<I, O> {
+
+        static final int COMPILE_AFTER = 16;
+
+        private final Function<I, Result<O, I>>[] matchers;
+        // racy on purpose: at worst, concurrent callers compile the table more than once
+        private int uses;
+        private volatile CompiledMatch<I, O> compiled;
+
+        Deferred(Function<I, Result<O, I>>[] matchers) {
+            this.matchers = matchers;
+        }
+
+        /**
+         * Returns the output of the first matcher to succeed on the input, or else MISSED or a Miss
+         */
+        Object dispatch(I input) {
+            CompiledMatch<I, O> table = compiled;
+            if (table != null) {
+                return table.dispatch(input);
+            }
+            if (++uses >= COMPILE_AFTER) {
+                compiled = new CompiledMatch<>(matchers);
+            }
+            return dispatchInTurn(matchers, input, 0);
+        }
+    }
+
+    /**
+     * The outcome of a dispatch where nothing matched, after an opaque matcher replaced the input
+     */
+    static final class Miss {
+        private final Object value;
+
+        private Miss(Object value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package co.unruly.control.result;
+
+import co.unruly.control.pair.Pair;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * Collects a Stream of Results into a Pair, with the left being a list of success values
+ * and the right being a list of failure values, without preserving encounter order.
+ *
+ * This is a concurrent collector: a parallel stream accumulates into a single shared container,
+ * rather than building a container per task and merging them. To avoid all threads contending on
+ * one lock, the container is split into stripes, and each thread appends to the stripe selected by
+ * its thread id. The stripes are concatenated once, when the stream is finished.
+ */
+class ConcurrentResultCollector<L, R, T> implements Collector<Result<L, R>, ConcurrentResultCollector.Stripes<L, R>, T> {
+
+    private static final int STRIPES = stripesFor(Runtime.getRuntime().availableProcessors());
+
+    private final Function<Pair<List<L>, List<R>>, T> finisher;
+
+    ConcurrentResultCollector(Function<Pair<List<L>, List<R>>, T> finisher) {
+        this.finisher = finisher;
+    }
+
+    @Override
+    public Supplier<Stripes<L, R>> supplier() {
+        return () -> new Stripes<>(STRIPES);
+    }
+
+    @Override
+    public BiConsumer<Stripes<L, R>, Result<L, R>> accumulator() {
+        return Stripes::add;
+    }
+
+    @Override
+    public BinaryOperator<Stripes<L, R>> combiner() {
+        // only used if the stream isn't parallel and unordered, in which case there's only one container anyway
+        return (x, y) -> {
+            y.drainTo(x);
+            return x;
+        };
+    }
+
+    @Override
+    public Function<Stripes<L, R>, T> finisher() {
+        return stripes -> finisher.apply(stripes.merge());
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return Collections.unmodifiableSet(EnumSet.of(Characteristics.CONCURRENT, Characteristics.UNORDERED));
+    }
+
+    private static int stripesFor(int processors) {
+        return Integer.highestOneBit(Math.max(1, processors * 2 - 1)) << 1;
+    }
+
+    static final class Stripes<L, R> {
+        private final Stripe<L, R>[] stripes;
+        private final int mask;
+
+        private Stripes(int count) {
+            // generic arrays can't be created directly, but every element is a Stripe<L, R> created below
+            @SuppressWarnings("unchecked")
+            Stripe<L, R>[] created = (Stripe<L, R>[]) new Stripe<?, ?>[count];
+            stripes = created;
+            for (int i = 0; i < count; i++) {
+                stripes[i] = new Stripe<>();
+            }
+            mask = count - 1;
+        }
+
+        private void add(Result<L, R> result) {
+            Stripe<L, R> stripe = stripes[(int) Thread.currentThread().getId() & mask];
+            synchronized (stripe) {
+                result.either(stripe.successes::add, stripe.failures::add);
+            }
+        }
+
+        private void drainTo(Stripes<L, R> other) {
+            for (int i = 0; i < stripes.length; i++) {
+                Stripe<L, R> target = other.stripes[i];
+                synchronized (target) {
+                    target.successes.addAll(stripes[i].successes);
+                    target.failures.addAll(stripes[i].failures);
+                }
+            }
+        }
+
+        private Pair<List<L>, List<R>> merge() {
+            int successCount = 0;
+            int failureCount = 0;
+            for (Stripe<L, R> stripe : stripes) {
+                successCount += stripe.successes.size();
+                failureCount += stripe.failures.size();
+            }
+
+            List<L> successes = new ArrayList<>(successCount);
+            List<R> failures = new ArrayList<>(failureCount);
+            for (Stripe<L, R> stripe : stripes) {
+                successes.addAll(stripe.successes);
+                failures.addAll(stripe.failures);
+            }
+            return Pair.of(successes, failures);
+        }
+    }
+
+    private static final class Stripe<L, R> {
+        private final List<L> successes = new ArrayList<>();
+        private final List<R> failures = new ArrayList<>();
+    }
+}
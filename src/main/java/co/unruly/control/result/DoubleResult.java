@@ -0,0 +1,150 @@
+package co.unruly.control.result;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A Result whose success type is a primitive double, so successful values don't need to be boxed.
+ * <p>
+ * As with Result, the interface is minimal: common operations are implemented with static
+ * methods on DoubleResults, which can be composed upon a DoubleResult by passing them to then().
+ *
+ * @param <F> The type of a failure
+ */
+public abstract class DoubleResult<F> implements Serializable {
+
+    private DoubleResult() {
+    }
+
+    /**
+     * Creates a new Success
+     */
+    public static <F> DoubleResult<F> success(double value) {
+        return new Success<>(value);
+    }
+
+    /**
+     * Creates a new Success, taking the failure type for contexts where it can't be inferred.
+     */
+    public static <F> DoubleResult<F> success(double value, Class<F> failureType) {
+        return new Success<>(value);
+    }
+
+    /**
+     * Creates a new Failure
+     */
+    public static <F> DoubleResult<F> failure(F error) {
+        return new Failure<>(error);
+    }
+
+    /**
+     * Converts a Result of a boxed Double into a DoubleResult.
+     */
+    public static <F> DoubleResult<F> fromResult(Result<Double, F> result) {
+        return result.either(DoubleResult::success, DoubleResult::failure);
+    }
+
+    /**
+     * Takes two functions, the first of which is executed in the case that this
+     * DoubleResult is a Success, the second of which is executed in the case that it
+     * is a Failure, on the wrapped value in either case.
+     */
+    public abstract <R, R1 extends R, R2 extends R> R either(DoubleFunction<R1> onSuccess, Function<F, R2> onFailure);
+
+    /**
+     * As either(), but for the case where both functions yield a double, so the result does not need to be boxed.
+     */
+    public abstract double eitherAsDouble(DoubleUnaryOperator onSuccess, ToDoubleFunction<F> onFailure);
+
+    /**
+     * Applies a function to this DoubleResult.
+     *
+     * @see Result#then(Function)
+     */
+    public <T, T2 extends T> T then(Function<DoubleResult<F>, T2> biMapper) {
+        return biMapper.apply(this);
+    }
+
+    /**
+     * Converts this DoubleResult into a Result, boxing the success value.
+     */
+    public Result<Double, F> toResult() {
+        return either(Result::success, Result::failure);
+    }
+
+    private static final class Success<F> extends DoubleResult<F> {
+        private final double value;
+
+        private Success(double value) {
+            this.value = value;
+        }
+
+        @Override
+        public <R, R1 extends R, R2 extends R> R either(DoubleFunction<R1> onSuccess, Function<F, R2> onFailure) {
+            return onSuccess.apply(value);
+        }
+
+        @Override
+        public double eitherAsDouble(DoubleUnaryOperator onSuccess, ToDoubleFunction<F> onFailure) {
+            return onSuccess.applyAsDouble(value);
+        }
+
+        @Override
+        public String toString() {
+            return "Success{" + value + '}';
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Success<?> that = (Success<?>) o;
+            return Double.compare(value, that.value) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Double.hashCode(value);
+        }
+    }
+
+    private static final class Failure<F> extends DoubleResult<F> {
+        private final F value;
+
+        private Failure(F value) {
+            this.value = value;
+        }
+
+        @Override
+        public <R, R1 extends R, R2 extends R> R either(DoubleFunction<R1> onSuccess, Function<F, R2> onFailure) {
+            return onFailure.apply(value);
+        }
+
+        @Override
+        public double eitherAsDouble(DoubleUnaryOperator onSuccess, ToDoubleFunction<F> onFailure) {
+            return onFailure.applyAsDouble(value);
+        }
+
+        @Override
+        public String toString() {
+            return "Failure{" + value + '}';
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Failure<?> that = (Failure<?>) o;
+            return Objects.equals(value, that.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(value);
+        }
+    }
+}
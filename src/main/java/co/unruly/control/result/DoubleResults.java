@@ -0,0 +1,156 @@
+package co.unruly.control.result;
+
+import co.unruly.control.ThrowingLambdas.ThrowingToDoubleFunction;
+import co.unruly.control.pair.Pair;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
+import java.util.stream.Stream;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Stream.empty;
+
+/**
+ * Convenience functions on DoubleResults, mirroring those on Introducers, Transformers and Resolvers
+ * without boxing the success values.
+ */
+public interface DoubleResults {
+
+    /**
+     * Returns a function which takes a value, applies the provided function to it, and returns
+     * a success of the output of that function. In the case where the function throws an exception,
+     * that exception is passed to the provided exception-mapper, and the output of that call is the
+     * failure value.
+     *
+     * @see Introducers#tryTo(co.unruly.control.ThrowingLambdas.ThrowingFunction, Function)
+     */
+    static <I, F, X extends Exception> Function<I, DoubleResult<F>> tryTo(ThrowingToDoubleFunction<I, X> function, Function<Exception, F> exceptionMapper) {
+        return input -> {
+            try {
+                return DoubleResult.success(function.applyAsDouble(input));
+            } catch (Exception ex) {
+                return DoubleResult.failure(exceptionMapper.apply(ex));
+            }
+        };
+    }
+
+    /**
+     * Returns a function which takes a DoubleResult and, if it's a success, applies the mapping function to that
+     * success, otherwise returning the original failure.
+     */
+    static <F> Function<DoubleResult<F>, DoubleResult<F>> onSuccess(DoubleUnaryOperator mappingFunction) {
+        return r -> r.either(x -> DoubleResult.success(mappingFunction.applyAsDouble(x)), DoubleResult::failure);
+    }
+
+    /**
+     * Returns a function which takes a DoubleResult and, if it's a success, applies the mapping function to that
+     * success, returning a Result of the output, otherwise returning the original failure.
+     */
+    static <OS, F> Function<DoubleResult<F>, Result<OS, F>> onSuccessToObj(DoubleFunction<OS> mappingFunction) {
+        return r -> r.either(x -> Result.success(mappingFunction.apply(x)), Result::failure);
+    }
+
+    /**
+     * Returns a function which takes a DoubleResult and, if it's a success, applies the provided function
+     * to that success - generating a new DoubleResult - and returns that DoubleResult. Otherwise, returns the
+     * original failure.
+     */
+    static <F> Function<DoubleResult<F>, DoubleResult<F>> attempt(DoubleFunction<DoubleResult<F>> mappingFunction) {
+        return r -> r.either(mappingFunction, DoubleResult::failure);
+    }
+
+    /**
+     * Returns a function which takes a Result and, if it's a success, applies the provided function
+     * to that success - generating a DoubleResult - and returns that DoubleResult. Otherwise, returns the
+     * original failure.
+     * <p>
+     * This is the bridge from a Result into a DoubleResult, for example when parsing a value.
+     */
+    static <S, F> Function<Result<S, F>, DoubleResult<F>> attemptAsDouble(Function<S, DoubleResult<F>> mappingFunction) {
+        return r -> r.either(mappingFunction, DoubleResult::failure);
+    }
+
+    /**
+     * Returns a function which takes a DoubleResult and, if it's a failure, applies the provided function
+     * to that failure. Otherwise, returns the original success.
+     */
+    static <IF, OF> Function<DoubleResult<IF>, DoubleResult<OF>> onFailure(Function<IF, OF> mappingFunction) {
+        return r -> r.either(DoubleResult::success, f -> DoubleResult.failure(mappingFunction.apply(f)));
+    }
+
+    /**
+     * Returns a function which takes a DoubleResult and, if it's a failure, applies the provided function to
+     * that failure - generating a new DoubleResult - and returns that DoubleResult. Otherwise, returns the original
+     * success.
+     */
+    static <IF, OF> Function<DoubleResult<IF>, DoubleResult<OF>> recover(Function<IF, DoubleResult<OF>> recoveryFunction) {
+        return r -> r.either(DoubleResult::success, recoveryFunction);
+    }
+
+    /**
+     * Takes a DoubleResult and returns the success value if it is a success, or if it's
+     * a failure, returns the result of applying the recovery function to the
+     * failure value.
+     */
+    static <F> ToDoubleFunction<DoubleResult<F>> ifFailed(ToDoubleFunction<F> recoveryFunction) {
+        return r -> r.eitherAsDouble(x -> x, recoveryFunction);
+    }
+
+    /**
+     * Returns a DoubleStream of successes: a stream of a single value if this is a success,
+     * or an empty stream if this is a failure. This is intended to be used with flatMapToDouble().
+     */
+    static <F> Function<DoubleResult<F>, DoubleStream> successes() {
+        return r -> r.either(DoubleStream::of, __ -> DoubleStream.empty());
+    }
+
+    /**
+     * Returns a Stream of failures: a stream of a single value if this is a failure,
+     * or an empty stream if this is a success.
+     */
+    static <F> Function<DoubleResult<F>, Stream<F>> failures() {
+        return r -> r.either(__ -> empty(), Stream::of);
+    }
+
+    /**
+     * Collects a Stream of DoubleResults into a Pair, the left containing an array of the success values,
+     * the right containing a List of the failures.
+     */
+    static <F> Collector<DoubleResult<F>, ?, Pair<double[], List<F>>> split() {
+        return Collector.<DoubleResult<F>, Pair<DoubleStream.Builder, List<F>>, Pair<double[], List<F>>>of(
+            () -> Pair.of(DoubleStream.builder(), new ArrayList<>()),
+            (acc, r) -> r.either(acc.left::add, acc.right::add),
+            (x, y) -> {
+                y.left.build().forEach(x.left::add);
+                x.right.addAll(y.right);
+                return x;
+            },
+            acc -> Pair.of(acc.left.build().toArray(), unmodifiableList(acc.right))
+        );
+    }
+
+    /**
+     * Collects a Stream of DoubleResults into a Result which contains an array of the success values, if all
+     * results in the stream were successful, or a List of the failures if any failed.
+     */
+    static <F> Collector<DoubleResult<F>, ?, Result<double[], List<F>>> allSucceeded() {
+        return Collector.<DoubleResult<F>, Pair<DoubleStream.Builder, List<F>>, Result<double[], List<F>>>of(
+            () -> Pair.of(DoubleStream.builder(), new ArrayList<>()),
+            (acc, r) -> r.either(acc.left::add, acc.right::add),
+            (x, y) -> {
+                y.left.build().forEach(x.left::add);
+                x.right.addAll(y.right);
+                return x;
+            },
+            acc -> acc.right.isEmpty()
+                ? Result.success(acc.left.build().toArray())
+                : Result.failure(unmodifiableList(acc.right))
+        );
+    }
+}
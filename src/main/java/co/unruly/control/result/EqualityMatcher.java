@@ -0,0 +1,28 @@
+package co.unruly.control.result;
+
+import java.util.function.Function;
+
+/**
+ * A matcher which succeeds on values equal to a given value, as built by Recover.ifEquals(). Match
+ * recognises these so it can dispatch with a hash lookup instead of trying each in turn.
+ */
+final class EqualityMatcher<S, F> implements Match.Matcher<F, S> {
+
+    final F expectedValue;
+    private final Function<F, S> mapper;
+
+    EqualityMatcher(F expectedValue, Function<F, S> mapper) {
+        this.expectedValue = expectedValue;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public boolean matches(F input) {
+        return expectedValue.equals(input);
+    }
+
+    @Override
+    public S applyMatched(F input) {
+        return mapper.apply(input);
+    }
+}
@@ -0,0 +1,109 @@
+package co.unruly.control.result;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Configures how tryTo() turns caught exceptions into failure values, for code where failures are
+ * expected often enough that handling them needs to be cheap.
+ * <pre>
+ * {@code
+ * Function<String, Result<Integer, CaughtException>> parse = tryTo(Integer::parseInt, ExceptionCapture.withoutStackTraces());
+ *
+ * Function<Row, Result<Record, ImportError>> importRow = tryTo(importer::read,
+ *     ExceptionCapture.mappingWith(ImportError::unexpected)
+ *         .mapping(NumberFormatException.class, ImportError.NOT_A_NUMBER)
+ *         .handling(DateTimeParseException.class, ex -> ImportError.badDate(ex.getParsedString()))
+ *         .handling(SQLException.class, ex -> ImportError.database(ex.getSQLState())));
+ * }
+ * </pre>
+ * Like a ladder of catch blocks, a capture can handle exceptions of particular types: each exception
+ * is handled by the handler for its most specific type, or else by the mapping function. Which
+ * handler applies is worked out once per class of exception thrown and cached, so handling an exception
+ * takes the same time however many handlers there are. Exceptions of types mapped to constant failures
+ * are dropped as soon as they're caught.
+ * <p>
+ * Otherwise, failures are built by the mapping function, or as {@link CaughtException}s, which only
+ * keep the exception (and so its stack trace) if asked to.
+ * <p>
+ * Note that the code which throws an exception pays to fill in its stack trace, and that can't be undone
+ * here: code which throws exceptions to signal expected failures can avoid that by throwing
+ * {@link StacklessException}s.
+ * <p>
+ * Captures are immutable: each method returns a new capture.
+ *
+ * @param <F> the type of failure exceptions are turned into
+ */
+public final class ExceptionCapture<F> {
+
+    private final Map<Class<?>, Function<Exception, F>> handlers;
+    private final Function<Exception, F> mapper;
+    private final ClassValue<Function<Exception, F>> handlersByClass = new ClassValue<Function<Exception, F>>() {
+        @Override
+        protected Function<Exception, F> computeValue(Class<?> type) {
+            return handlerFor(type);
+        }
+    };
+
+    private ExceptionCapture(Map<Class<?>, Function<Exception, F>> handlers, Function<Exception, F> mapper) {
+        this.handlers = handlers;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Captures exceptions as CaughtExceptions which record their type and message, but drop the exception
+     * itself, along with its stack trace
+     */
+    public static ExceptionCapture<CaughtException> withoutStackTraces() {
+        return mappingWith(ex -> new CaughtException(ex, false));
+    }
+
+    /**
+     * Captures exceptions as CaughtExceptions which keep the exception itself: its stack trace is only
+     * turned into StackTraceElements if it's asked for
+     */
+    public static ExceptionCapture<CaughtException> withStackTraces() {
+        return mappingWith(ex -> new CaughtException(ex, true));
+    }
+
+    /**
+     * Captures exceptions by applying the provided function to them
+     */
+    public static <F> ExceptionCapture<F> mappingWith(Function<Exception, F> mapper) {
+        return new ExceptionCapture<>(Collections.emptyMap(), mapper);
+    }
+
+    /**
+     * Captures exceptions of the given type, or a subtype with no more specific handler, as the provided failure
+     */
+    public ExceptionCapture<F> mapping(Class<? extends Exception> type, F failure) {
+        return handling(type, __ -> failure);
+    }
+
+    /**
+     * Captures exceptions of the given type, or a subtype with no more specific handler, by applying the
+     * provided handler to them. Handling the same type again replaces its handler.
+     */
+    @SuppressWarnings("unchecked")
+    public <X extends Exception> ExceptionCapture<F> handling(Class<X> type, Function<? super X, ? extends F> handler) {
+        Map<Class<?>, Function<Exception, F>> extended = new LinkedHashMap<>(handlers);
+        extended.put(type, ex -> handler.apply((X) ex));
+        return new ExceptionCapture<>(extended, mapper);
+    }
+
+    F capture(Exception exception) {
+        return handlersByClass.get(exception.getClass()).apply(exception);
+    }
+
+    private Function<Exception, F> handlerFor(Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            Function<Exception, F> handler = handlers.get(current);
+            if (handler != null) {
+                return handler;
+            }
+        }
+        return mapper;
+    }
+}
@@ -0,0 +1,150 @@
+package co.unruly.control.result;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+
+/**
+ * A Result whose success type is a primitive int, so successful values don't need to be boxed.
+ * <p>
+ * As with Result, the interface is minimal: common operations are implemented with static
+ * methods on IntResults, which can be composed upon an IntResult by passing them to then().
+ *
+ * @param <F> The type of a failure
+ */
+public abstract class IntResult<F> implements Serializable {
+
+    private IntResult() {
+    }
+
+    /**
+     * Creates a new Success
+     */
+    public static <F> IntResult<F> success(int value) {
+        return new Success<>(value);
+    }
+
+    /**
+     * Creates a new Success, taking the failure type for contexts where it can't be inferred.
+     */
+    public static <F> IntResult<F> success(int value, Class<F> failureType) {
+        return new Success<>(value);
+    }
+
+    /**
+     * Creates a new Failure
+     */
+    public static <F> IntResult<F> failure(F error) {
+        return new Failure<>(error);
+    }
+
+    /**
+     * Converts a Result of a boxed Integer into an IntResult.
+     */
+    public static <F> IntResult<F> fromResult(Result<Integer, F> result) {
+        return result.either(IntResult::success, IntResult::failure);
+    }
+
+    /**
+     * Takes two functions, the first of which is executed in the case that this
+     * IntResult is a Success, the second of which is executed in the case that it
+     * is a Failure, on the wrapped value in either case.
+     */
+    public abstract <R, R1 extends R, R2 extends R> R either(IntFunction<R1> onSuccess, Function<F, R2> onFailure);
+
+    /**
+     * As either(), but for the case where both functions yield an int, so the result does not need to be boxed.
+     */
+    public abstract int eitherAsInt(IntUnaryOperator onSuccess, ToIntFunction<F> onFailure);
+
+    /**
+     * Applies a function to this IntResult.
+     *
+     * @see Result#then(Function)
+     */
+    public <T, T2 extends T> T then(Function<IntResult<F>, T2> biMapper) {
+        return biMapper.apply(this);
+    }
+
+    /**
+     * Converts this IntResult into a Result, boxing the success value.
+     */
+    public Result<Integer, F> toResult() {
+        return either(Result::success, Result::failure);
+    }
+
+    private static final class Success<F> extends IntResult<F> {
+        private final int value;
+
+        private Success(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public <R, R1 extends R, R2 extends R> R either(IntFunction<R1> onSuccess, Function<F, R2> onFailure) {
+            return onSuccess.apply(value);
+        }
+
+        @Override
+        public int eitherAsInt(IntUnaryOperator onSuccess, ToIntFunction<F> onFailure) {
+            return onSuccess.applyAsInt(value);
+        }
+
+        @Override
+        public String toString() {
+            return "Success{" + value + '}';
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Success<?> that = (Success<?>) o;
+            return value == that.value;
+        }
+
+        @Override
+        public int hashCode() {
+            return Integer.hashCode(value);
+        }
+    }
+
+    private static final class Failure<F> extends IntResult<F> {
+        private final F value;
+
+        private Failure(F value) {
+            this.value = value;
+        }
+
+        @Override
+        public <R, R1 extends R, R2 extends R> R either(IntFunction<R1> onSuccess, Function<F, R2> onFailure) {
+            return onFailure.apply(value);
+        }
+
+        @Override
+        public int eitherAsInt(IntUnaryOperator onSuccess, ToIntFunction<F> onFailure) {
+            return onFailure.applyAsInt(value);
+        }
+
+        @Override
+        public String toString() {
+            return "Failure{" + value + '}';
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Failure<?> that = (Failure<?>) o;
+            return Objects.equals(value, that.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(value);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package co.unruly.control.result;
+
+import co.unruly.control.ThrowingLambdas.ThrowingToIntFunction;
+import co.unruly.control.pair.Pair;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Stream.empty;
+
+/**
+ * Convenience functions on IntResults, mirroring those on Introducers, Transformers and Resolvers
+ * without boxing the success values.
+ */
+public interface IntResults {
+
+    /**
+     * Returns a function which takes a value, applies the provided function to it, and returns
+     * a success of the output of that function. In the case where the function throws an exception,
+     * that exception is passed to the provided exception-mapper, and the output of that call is the
+     * failure value.
+     *
+     * @see Introducers#tryTo(co.unruly.control.ThrowingLambdas.ThrowingFunction, Function)
+     */
+    static <I, F, X extends Exception> Function<I, IntResult<F>> tryTo(ThrowingToIntFunction<I, X> function, Function<Exception, F> exceptionMapper) {
+        return input -> {
+            try {
+                return IntResult.success(function.applyAsInt(input));
+            } catch (Exception ex) {
+                return IntResult.failure(exceptionMapper.apply(ex));
+            }
+        };
+    }
+
+    /**
+     * Returns a function which takes an IntResult and, if it's a success, applies the mapping function to that
+     * success, otherwise returning the original failure.
+     */
+    static <F> Function<IntResult<F>, IntResult<F>> onSuccess(IntUnaryOperator mappingFunction) {
+        return r -> r.either(x -> IntResult.success(mappingFunction.applyAsInt(x)), IntResult::failure);
+    }
+
+    /**
+     * Returns a function which takes an IntResult and, if it's a success, applies the mapping function to that
+     * success, returning a Result of the output, otherwise returning the original failure.
+     */
+    static <OS, F> Function<IntResult<F>, Result<OS, F>> onSuccessToObj(IntFunction<OS> mappingFunction) {
+        return r -> r.either(x -> Result.success(mappingFunction.apply(x)), Result::failure);
+    }
+
+    /**
+     * Returns a function which takes an IntResult and, if it's a success, applies the provided function
+     * to that success - generating a new IntResult - and returns that IntResult. Otherwise, returns the
+     * original failure.
+     */
+    static <F> Function<IntResult<F>, IntResult<F>> attempt(IntFunction<IntResult<F>> mappingFunction) {
+        return r -> r.either(mappingFunction, IntResult::failure);
+    }
+
+    /**
+     * Returns a function which takes a Result and, if it's a success, applies the provided function
+     * to that success - generating an IntResult - and returns that IntResult. Otherwise, returns the
+     * original failure.
+     * <p>
+     * This is the bridge from a Result into an IntResult, for example when parsing a value.
+     */
+    static <S, F> Function<Result<S, F>, IntResult<F>> attemptAsInt(Function<S, IntResult<F>> mappingFunction) {
+        return r -> r.either(mappingFunction, IntResult::failure);
+    }
+
+    /**
+     * Returns a function which takes an IntResult and, if it's a failure, applies the provided function
+     * to that failure. Otherwise, returns the original success.
+     */
+    static <IF, OF> Function<IntResult<IF>, IntResult<OF>> onFailure(Function<IF, OF> mappingFunction) {
+        return r -> r.either(IntResult::success, f -> IntResult.failure(mappingFunction.apply(f)));
+    }
+
+    /**
+     * Returns a function which takes an IntResult and, if it's a failure, applies the provided function to
+     * that failure - generating a new IntResult - and returns that IntResult. Otherwise, returns the original
+     * success.
+     */
+    static <IF, OF> Function<IntResult<IF>, IntResult<OF>> recover(Function<IF, IntResult<OF>> recoveryFunction) {
+        return r -> r.either(IntResult::success, recoveryFunction);
+    }
+
+    /**
+     * Takes an IntResult and returns the success value if it is a success, or if it's
+     * a failure, returns the result of applying the recovery function to the
+     * failure value.
+     */
+    static <F> ToIntFunction<IntResult<F>> ifFailed(ToIntFunction<F> recoveryFunction) {
+        return r -> r.eitherAsInt(x -> x, recoveryFunction);
+    }
+
+    /**
+     * Returns an IntStream of successes: a stream of a single value if this is a success,
+     * or an empty stream if this is a failure. This is intended to be used with flatMapToInt().
+     */
+    static <F> Function<IntResult<F>, IntStream> successes() {
+        return r -> r.either(IntStream::of, __ -> IntStream.empty());
+    }
+
+    /**
+     * Returns a Stream of failures: a stream of a single value if this is a failure,
+     * or an empty stream if this is a success.
+     */
+    static <F> Function<IntResult<F>, Stream<F>> failures() {
+        return r -> r.either(__ -> empty(), Stream::of);
+    }
+
+    /**
+     * Collects a Stream of IntResults into a Pair, the left containing an array of the success values,
+     * the right containing a List of the failures.
+     */
+    static <F> Collector<IntResult<F>, ?, Pair<int[], List<F>>> split() {
+        return Collector.<IntResult<F>, Pair<IntStream.Builder, List<F>>, Pair<int[], List<F>>>of(
+            () -> Pair.of(IntStream.builder(), new ArrayList<>()),
+            (acc, r) -> r.either(acc.left::add, acc.right::add),
+            (x, y) -> {
+                y.left.build().forEach(x.left::add);
+                x.right.addAll(y.right);
+                return x;
+            },
+            acc -> Pair.of(acc.left.build().toArray(), unmodifiableList(acc.right))
+        );
+    }
+
+    /**
+     * Collects a Stream of IntResults into a Result which contains an array of the success values, if all
+     * results in the stream were successful, or a List of the failures if any failed.
+     */
+    static <F> Collector<IntResult<F>, ?, Result<int[], List<F>>> allSucceeded() {
+        return Collector.<IntResult<F>, Pair<IntStream.Builder, List<F>>, Result<int[], List<F>>>of(
+            () -> Pair.of(IntStream.builder(), new ArrayList<>()),
+            (acc, r) -> r.either(acc.left::add, acc.right::add),
+            (x, y) -> {
+                y.left.build().forEach(x.left::add);
+                x.right.addAll(y.right);
+                return x;
+            },
+            acc -> acc.right.isEmpty()
+                ? Result.success(acc.left.build().toArray())
+                : Result.failure(unmodifiableList(acc.right))
+        );
+    }
+}
@@ -8,6 +8,7 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static co.unruly.control.result.Result.failure;
 import static co.unruly.control.result.Result.success;
@@ -137,6 +138,27 @@ public interface Introducers {
         };
     }
 
+    /**
+     * Returns a function which takes a value, applies the provided function to it, and returns
+     * a success of the output of that function. In the case where the function throws an exception,
+     * the exception is captured as a failure as the provided ExceptionCapture specifies: that can
+     * map known exception types straight to constant failures, or drop exceptions' stack traces.
+     *
+     * As with the other forms of tryTo(), any Exception is caught, but Errors are not.
+     */
+    static <IS, OS, X extends Exception, F> Function<IS, Result<OS, F>> tryTo(
+        ThrowingLambdas.ThrowingFunction<IS, OS, X> throwingFunction,
+        ExceptionCapture<F> capture
+    ) {
+        return input -> {
+            try {
+                return Result.success(throwingFunction.apply(input));
+            } catch (Exception ex) {
+                return Result.failure(capture.capture(ex));
+            }
+        };
+    }
+
     /**
      * Returns a function which takes a value, applies the provided function to it, and returns
      * a success of the output of that function, or a failure of the exception thrown by that function
@@ -194,6 +216,46 @@ public interface Introducers {
         return tryTo(f).andThen(unwrapSuccesses());
     }
 
+    /**
+     * Returns a function which takes a value, applies the provided stream-returning function to it,
+     * and returns a stream of each element of the returned stream wrapped in a success. If the function
+     * throws an exception, or the stream it returned throws one while it's being consumed, the exception
+     * ends the stream as a failure, so the elements before it are kept.
+     *
+     * Unlike tryAndUnwrap(), the stream isn't buffered, so it can be used on streams larger than memory,
+     * such as the lines of a large file. The returned stream closes the underlying stream when it's closed,
+     * as flatMap() does, and also as soon as the underlying stream is exhausted or fails, unless it's been
+     * split to run in parallel. A parallel stream is split as the underlying stream allows, and each part
+     * ends with its own failure if it throws.
+     */
+    static <IS, OS, X extends Exception> Function<IS, Stream<Result<OS, Exception>>> tryAndUnwrapEach(ThrowingLambdas.ThrowingFunction<IS, Stream<OS>, X> f) {
+        return tryAndUnwrapEach(f, identity());
+    }
+
+    /**
+     * Returns a function which takes a value, applies the provided stream-returning function to it,
+     * and returns a stream of each element of the returned stream wrapped in a success. If the function
+     * throws an exception, or the stream it returned throws one while it's being consumed, the exception
+     * is passed to the provided exception-mapper and ends the stream as a failure of the output of that call.
+     *
+     * @see #tryAndUnwrapEach(ThrowingLambdas.ThrowingFunction)
+     */
+    static <IS, OS, X extends Exception, F> Function<IS, Stream<Result<OS, F>>> tryAndUnwrapEach(
+        ThrowingLambdas.ThrowingFunction<IS, Stream<OS>, X> f,
+        Function<Exception, F> exceptionMapper
+    ) {
+        return input -> {
+            Stream<OS> elements;
+            try {
+                elements = f.apply(input);
+            } catch (Exception ex) {
+                return Stream.of(Result.failure(exceptionMapper.apply(ex)));
+            }
+            TryingSpliterator<OS, F> results = new TryingSpliterator<>(elements.spliterator(), exceptionMapper, elements::close);
+            return StreamSupport.stream(results, elements.isParallel()).onClose(elements::close);
+        };
+    }
+
     /**
      * Takes a class and returns a function which takes a value, attempts to cast it to that class, and returns
      * a Success of the provided type if it's a member of it, and a Failure of the known type otherwise, in both
@@ -229,6 +291,8 @@ public interface Introducers {
      * Takes a java.util.Map and a failure function, and returns a function which takes a key and returns
      * a success of the associated value in the Map, if present, or applies the failure function to the
      * key otherwise.
+     *
+     * @see Batching for looking up keys in batches with a bulk loader
      */
     static <K, S, F> Function<K, Result<S, F>> fromMap(Map<K, S> map, Function<K, F> failureProvider) {
         return key -> {
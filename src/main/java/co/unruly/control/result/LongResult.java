@@ -0,0 +1,150 @@
+package co.unruly.control.result;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+
+/**
+ * A Result whose success type is a primitive long, so successful values don't need to be boxed.
+ * <p>
+ * As with Result, the interface is minimal: common operations are implemented with static
+ * methods on LongResults, which can be composed upon a LongResult by passing them to then().
+ *
+ * @param <F> The type of a failure
+ */
+public abstract class LongResult<F> implements Serializable {
+
+    private LongResult() {
+    }
+
+    /**
+     * Creates a new Success
+     */
+    public static <F> LongResult<F> success(long value) {
+        return new Success<>(value);
+    }
+
+    /**
+     * Creates a new Success, taking the failure type for contexts where it can't be inferred.
+     */
+    public static <F> LongResult<F> success(long value, Class<F> failureType) {
+        return new Success<>(value);
+    }
+
+    /**
+     * Creates a new Failure
+     */
+    public static <F> LongResult<F> failure(F error) {
+        return new Failure<>(error);
+    }
+
+    /**
+     * Converts a Result of a boxed Long into a LongResult.
+     */
+    public static <F> LongResult<F> fromResult(Result<Long, F> result) {
+        return result.either(LongResult::success, LongResult::failure);
+    }
+
+    /**
+     * Takes two functions, the first of which is executed in the case that this
+     * LongResult is a Success, the second of which is executed in the case that it
+     * is a Failure, on the wrapped value in either case.
+     */
+    public abstract <R, R1 extends R, R2 extends R> R either(LongFunction<R1> onSuccess, Function<F, R2> onFailure);
+
+    /**
+     * As either(), but for the case where both functions yield a long, so the result does not need to be boxed.
+     */
+    public abstract long eitherAsLong(LongUnaryOperator onSuccess, ToLongFunction<F> onFailure);
+
+    /**
+     * Applies a function to this LongResult.
+     *
+     * @see Result#then(Function)
+     */
+    public <T, T2 extends T> T then(Function<LongResult<F>, T2> biMapper) {
+        return biMapper.apply(this);
+    }
+
+    /**
+     * Converts this LongResult into a Result, boxing the success value.
+     */
+    public Result<Long, F> toResult() {
+        return either(Result::success, Result::failure);
+    }
+
+    private static final class Success<F> extends LongResult<F> {
+        private final long value;
+
+        private Success(long value) {
+            this.value = value;
+        }
+
+        @Override
+        public <R, R1 extends R, R2 extends R> R either(LongFunction<R1> onSuccess, Function<F, R2> onFailure) {
+            return onSuccess.apply(value);
+        }
+
+        @Override
+        public long eitherAsLong(LongUnaryOperator onSuccess, ToLongFunction<F> onFailure) {
+            return onSuccess.applyAsLong(value);
+        }
+
+        @Override
+        public String toString() {
+            return "Success{" + value + '}';
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Success<?> that = (Success<?>) o;
+            return value == that.value;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(value);
+        }
+    }
+
+    private static final class Failure<F> extends LongResult<F> {
+        private final F value;
+
+        private Failure(F value) {
+            this.value = value;
+        }
+
+        @Override
+        public <R, R1 extends R, R2 extends R> R either(LongFunction<R1> onSuccess, Function<F, R2> onFailure) {
+            return onFailure.apply(value);
+        }
+
+        @Override
+        public long eitherAsLong(LongUnaryOperator onSuccess, ToLongFunction<F> onFailure) {
+            return onFailure.applyAsLong(value);
+        }
+
+        @Override
+        public String toString() {
+            return "Failure{" + value + '}';
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Failure<?> that = (Failure<?>) o;
+            return Objects.equals(value, that.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(value);
+        }
+    }
+}
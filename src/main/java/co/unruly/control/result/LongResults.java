@@ -0,0 +1,156 @@
+package co.unruly.control.result;
+
+import co.unruly.control.ThrowingLambdas.ThrowingToLongFunction;
+import co.unruly.control.pair.Pair;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Stream.empty;
+
+/**
+ * Convenience functions on LongResults, mirroring those on Introducers, Transformers and Resolvers
+ * without boxing the success values.
+ */
+public interface LongResults {
+
+    /**
+     * Returns a function which takes a value, applies the provided function to it, and returns
+     * a success of the output of that function. In the case where the function throws an exception,
+     * that exception is passed to the provided exception-mapper, and the output of that call is the
+     * failure value.
+     *
+     * @see Introducers#tryTo(co.unruly.control.ThrowingLambdas.ThrowingFunction, Function)
+     */
+    static <I, F, X extends Exception> Function<I, LongResult<F>> tryTo(ThrowingToLongFunction<I, X> function, Function<Exception, F> exceptionMapper) {
+        return input -> {
+            try {
+                return LongResult.success(function.applyAsLong(input));
+            } catch (Exception ex) {
+                return LongResult.failure(exceptionMapper.apply(ex));
+            }
+        };
+    }
+
+    /**
+     * Returns a function which takes a LongResult and, if it's a success, applies the mapping function to that
+     * success, otherwise returning the original failure.
+     */
+    static <F> Function<LongResult<F>, LongResult<F>> onSuccess(LongUnaryOperator mappingFunction) {
+        return r -> r.either(x -> LongResult.success(mappingFunction.applyAsLong(x)), LongResult::failure);
+    }
+
+    /**
+     * Returns a function which takes a LongResult and, if it's a success, applies the mapping function to that
+     * success, returning a Result of the output, otherwise returning the original failure.
+     */
+    static <OS, F> Function<LongResult<F>, Result<OS, F>> onSuccessToObj(LongFunction<OS> mappingFunction) {
+        return r -> r.either(x -> Result.success(mappingFunction.apply(x)), Result::failure);
+    }
+
+    /**
+     * Returns a function which takes a LongResult and, if it's a success, applies the provided function
+     * to that success - generating a new LongResult - and returns that LongResult. Otherwise, returns the
+     * original failure.
+     */
+    static <F> Function<LongResult<F>, LongResult<F>> attempt(LongFunction<LongResult<F>> mappingFunction) {
+        return r -> r.either(mappingFunction, LongResult::failure);
+    }
+
+    /**
+     * Returns a function which takes a Result and, if it's a success, applies the provided function
+     * to that success - generating a LongResult - and returns that LongResult. Otherwise, returns the
+     * original failure.
+     * <p>
+     * This is the bridge from a Result into a LongResult, for example when parsing a value.
+     */
+    static <S, F> Function<Result<S, F>, LongResult<F>> attemptAsLong(Function<S, LongResult<F>> mappingFunction) {
+        return r -> r.either(mappingFunction, LongResult::failure);
+    }
+
+    /**
+     * Returns a function which takes a LongResult and, if it's a failure, applies the provided function
+     * to that failure. Otherwise, returns the original success.
+     */
+    static <IF, OF> Function<LongResult<IF>, LongResult<OF>> onFailure(Function<IF, OF> mappingFunction) {
+        return r -> r.either(LongResult::success, f -> LongResult.failure(mappingFunction.apply(f)));
+    }
+
+    /**
+     * Returns a function which takes a LongResult and, if it's a failure, applies the provided function to
+     * that failure - generating a new LongResult - and returns that LongResult. Otherwise, returns the original
+     * success.
+     */
+    static <IF, OF> Function<LongResult<IF>, LongResult<OF>> recover(Function<IF, LongResult<OF>> recoveryFunction) {
+        return r -> r.either(LongResult::success, recoveryFunction);
+    }
+
+    /**
+     * Takes a LongResult and returns the success value if it is a success, or if it's
+     * a failure, returns the result of applying the recovery function to the
+     * failure value.
+     */
+    static <F> ToLongFunction<LongResult<F>> ifFailed(ToLongFunction<F> recoveryFunction) {
+        return r -> r.eitherAsLong(x -> x, recoveryFunction);
+    }
+
+    /**
+     * Returns a LongStream of successes: a stream of a single value if this is a success,
+     * or an empty stream if this is a failure. This is intended to be used with flatMapToLong().
+     */
+    static <F> Function<LongResult<F>, LongStream> successes() {
+        return r -> r.either(LongStream::of, __ -> LongStream.empty());
+    }
+
+    /**
+     * Returns a Stream of failures: a stream of a single value if this is a failure,
+     * or an empty stream if this is a success.
+     */
+    static <F> Function<LongResult<F>, Stream<F>> failures() {
+        return r -> r.either(__ -> empty(), Stream::of);
+    }
+
+    /**
+     * Collects a Stream of LongResults into a Pair, the left containing an array of the success values,
+     * the right containing a List of the failures.
+     */
+    static <F> Collector<LongResult<F>, ?, Pair<long[], List<F>>> split() {
+        return Collector.<LongResult<F>, Pair<LongStream.Builder, List<F>>, Pair<long[], List<F>>>of(
+            () -> Pair.of(LongStream.builder(), new ArrayList<>()),
+            (acc, r) -> r.either(acc.left::add, acc.right::add),
+            (x, y) -> {
+                y.left.build().forEach(x.left::add);
+                x.right.addAll(y.right);
+                return x;
+            },
+            acc -> Pair.of(acc.left.build().toArray(), unmodifiableList(acc.right))
+        );
+    }
+
+    /**
+     * Collects a Stream of LongResults into a Result which contains an array of the success values, if all
+     * results in the stream were successful, or a List of the failures if any failed.
+     */
+    static <F> Collector<LongResult<F>, ?, Result<long[], List<F>>> allSucceeded() {
+        return Collector.<LongResult<F>, Pair<LongStream.Builder, List<F>>, Result<long[], List<F>>>of(
+            () -> Pair.of(LongStream.builder(), new ArrayList<>()),
+            (acc, r) -> r.either(acc.left::add, acc.right::add),
+            (x, y) -> {
+                y.left.build().forEach(x.left::add);
+                x.right.addAll(y.right);
+                return x;
+            },
+            acc -> acc.right.isEmpty()
+                ? Result.success(acc.left.build().toArray())
+                : Result.failure(unmodifiableList(acc.right))
+        );
+    }
+}
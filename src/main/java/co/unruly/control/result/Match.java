@@ -1,11 +1,6 @@
 package co.unruly.control.result;
 
 import java.util.function.Function;
-import java.util.stream.Stream;
-
-import static co.unruly.control.Piper.pipe;
-import static co.unruly.control.HigherOrderFunctions.compose;
-import static co.unruly.control.result.Resolvers.ifFailed;
 
 /**
  * A small DSL for building compact dispatch tables: better than if-expressions, worse than
@@ -13,6 +8,10 @@ import static co.unruly.control.result.Resolvers.ifFailed;
  *
  * This models a match attempt as a sequence of operations on a Result, starting with a Failure
  * and continuously trying to use flatMapFailure to convert that Result into a Success.
+ *
+ * Matchers which implement {@link Matcher}, as those built by Recover.ifType(), ifEquals(), ifIs()
+ * and ifNot() do, are tested before being applied, so those Results are never actually created: dispatching
+ * through them only allocates what the matched branch does.
  */
 public class Match {
 
@@ -21,19 +20,30 @@ public class Match {
      * a function, the otherwise() method must be called on the result of this function:
      * as there's no way to determine if the dispatch table is complete, a base case is
      * required.
+     *
+     * The resulting function tries each matcher in turn at first, and only indexes its matchers, as
+     * attemptMatch() does, once it's been applied often enough for that to pay off.
      */
     @SafeVarargs
     public static <I, O> MatchAttempt<I, O> match(Function<I, Result<O, I>>... potentialMatchers) {
-        return f -> attemptMatch(potentialMatchers).andThen(ifFailed(f));
+        return f -> {
+            CompiledMatch.Deferred<I, O> table = new CompiledMatch.Deferred<>(potentialMatchers.clone());
+            return input -> CompiledMatch.resolve(table.dispatch(input), input, f);
+        };
     }
 
     /**
      * Builds a dispatch function from the provided matchers. Note that this returns a Result,
      * as there's no way to determine if the dispatch table is complete: if no match is found,
      * returns a Failure of the input value.
+     *
+     * Matchers built with Recover.ifType() and Recover.ifEquals() are indexed, by class and by value
+     * respectively, so they aren't tried one by one: the first matcher to succeed still wins, but
+     * dispatch over large tables of these doesn't slow down with the size of the table.
      */
+    @SafeVarargs
     public static <I, O> Function<I, Result<O, I>> attemptMatch(Function<I, Result<O, I>>... potentialMatchers) {
-        return compose(Stream.of(potentialMatchers).map(Transformers::recover)).compose(Result::failure);
+        return new CompiledMatch<>(potentialMatchers);
     }
 
     /**
@@ -44,10 +54,32 @@ public class Match {
      */
     @SafeVarargs
     public static <I, O> BoundMatchAttempt<I, O> matchValue(I inputValue, Function<I, Result<O, I>>... potentialMatchers) {
-        return f -> pipe(inputValue)
-                .then(attemptMatch(potentialMatchers))
-                .then(ifFailed(f))
-                .resolve();
+        return f -> CompiledMatch.resolve(CompiledMatch.dispatchInTurn(potentialMatchers, inputValue, 0), inputValue, f);
+    }
+
+    /**
+     * A matcher which can be tested against a value before being applied to it, so matching with it
+     * doesn't need to create a Result. It still works as a function returning a Result, so it can be
+     * used anywhere other matchers can.
+     */
+    public interface Matcher<I, O> extends Function<I, Result<O, I>> {
+
+        /**
+         * Returns whether this matcher succeeds on the given value
+         */
+        boolean matches(I input);
+
+        /**
+         * Returns the output for a value this matcher is known to succeed on
+         */
+        O applyMatched(I input);
+
+        @Override
+        default Result<O, I> apply(I input) {
+            return matches(input)
+                ? Result.success(applyMatched(input))
+                : Result.failure(input);
+        }
     }
 
     @FunctionalInterface
@@ -0,0 +1,114 @@
+package co.unruly.control.result;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Configures a bounded, concurrent cache in front of a function returning Results, such as
+ * those built with Introducers.tryTo() around expensive lookups.
+ * <pre>
+ * {@code
+ * MemoizedFunction<String, User, String> lookup = Memoize.memoize(tryTo(userService::find, Exception::getMessage))
+ *       .maximumSize(10_000)
+ *       .evicting(LEAST_RECENTLY_USED)
+ *       .cachingSuccessesFor(Duration.ofMinutes(10))
+ *       .cachingFailuresFor(Duration.ofSeconds(5))
+ *       .build();
+ * }
+ * </pre>
+ * By default, up to 10,000 Results are cached, successes and failures alike, until they're evicted.
+ * <p>
+ * Configurations are immutable: each method returns a new configuration, so partial configurations
+ * can be shared and extended.
+ *
+ * @param <I> the input type of the function
+ * @param <S> the success type of the Results it returns
+ * @param <F> the failure type of the Results it returns
+ */
+public final class Memoize<I, S, F> {
+
+    /**
+     * Which cached Results to discard when the cache is full.
+     */
+    public enum Eviction {
+        LEAST_RECENTLY_USED, LEAST_FREQUENTLY_USED
+    }
+
+    static final long FOREVER = Long.MAX_VALUE;
+
+    private final Function<I, Result<S, F>> function;
+    private final int maximumSize;
+    private final Eviction eviction;
+    private final long successTimeToLiveMillis;
+    private final long failureTimeToLiveMillis;
+    private final Clock clock;
+
+    private Memoize(
+        Function<I, Result<S, F>> function,
+        int maximumSize,
+        Eviction eviction,
+        long successTimeToLiveMillis,
+        long failureTimeToLiveMillis,
+        Clock clock
+    ) {
+        this.function = function;
+        this.maximumSize = maximumSize;
+        this.eviction = eviction;
+        this.successTimeToLiveMillis = successTimeToLiveMillis;
+        this.failureTimeToLiveMillis = failureTimeToLiveMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Starts configuring a cache in front of the provided function
+     */
+    public static <I, S, F> Memoize<I, S, F> memoize(Function<I, Result<S, F>> function) {
+        return new Memoize<>(function, 10_000, Eviction.LEAST_RECENTLY_USED, FOREVER, FOREVER, Clock.systemUTC());
+    }
+
+    /**
+     * Sets the number of Results to cache before evicting some
+     */
+    public Memoize<I, S, F> maximumSize(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be positive, but was " + maximumSize);
+        }
+        return new Memoize<>(function, maximumSize, eviction, successTimeToLiveMillis, failureTimeToLiveMillis, clock);
+    }
+
+    /**
+     * Sets which Results to discard when the cache is full
+     */
+    public Memoize<I, S, F> evicting(Eviction eviction) {
+        return new Memoize<>(function, maximumSize, eviction, successTimeToLiveMillis, failureTimeToLiveMillis, clock);
+    }
+
+    /**
+     * Sets how long to cache successes for: a zero duration means successes aren't cached
+     */
+    public Memoize<I, S, F> cachingSuccessesFor(Duration timeToLive) {
+        return new Memoize<>(function, maximumSize, eviction, timeToLive.toMillis(), failureTimeToLiveMillis, clock);
+    }
+
+    /**
+     * Sets how long to cache failures for: a zero duration means failures aren't cached
+     */
+    public Memoize<I, S, F> cachingFailuresFor(Duration timeToLive) {
+        return new Memoize<>(function, maximumSize, eviction, successTimeToLiveMillis, timeToLive.toMillis(), clock);
+    }
+
+    /**
+     * Sets the clock used to decide when cached Results expire
+     */
+    public Memoize<I, S, F> withClock(Clock clock) {
+        return new Memoize<>(function, maximumSize, eviction, successTimeToLiveMillis, failureTimeToLiveMillis, clock);
+    }
+
+    /**
+     * Builds a function which caches the Results of the provided function, as configured
+     */
+    public MemoizedFunction<I, S, F> build() {
+        return new MemoizedFunction<>(function, maximumSize, eviction, successTimeToLiveMillis, failureTimeToLiveMillis, clock);
+    }
+}
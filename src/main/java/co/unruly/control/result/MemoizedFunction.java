@@ -0,0 +1,227 @@
+package co.unruly.control.result;
+
+import co.unruly.control.result.Memoize.Eviction;
+
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import static co.unruly.control.result.Memoize.FOREVER;
+
+/**
+ * A function which caches the Results of another function, built by {@link Memoize}.
+ * <p>
+ * Concurrent calls for an input which isn't cached are collapsed: the first caller computes the
+ * Result, and the others wait for it. If the function throws, the exception is rethrown to all of
+ * those callers and nothing is cached. A function which calls itself for the input it's computing
+ * would wait for itself forever, so that call throws an IllegalStateException instead.
+ * <p>
+ * Eviction is approximate: reads only record when and how often an entry was used, and once the cache
+ * overflows, a single writer discards the least valuable tenth of it in one pass, halving the recorded
+ * use counts as it goes so that formerly popular entries can age out. Null inputs are never cached.
+ *
+ * @param <I> the input type of the function
+ * @param <S> the success type of the Results it returns
+ * @param <F> the failure type of the Results it returns
+ */
+public final class MemoizedFunction<I, S, F> implements Function<I, Result<S, F>> {
+
+    private final Function<I, Result<S, F>> function;
+    private final int maximumSize;
+    private final Comparator<Candidate<?, ?, ?>> mostValuableFirst;
+    private final long successTimeToLiveMillis;
+    private final long failureTimeToLiveMillis;
+    private final Clock clock;
+
+    private final ConcurrentHashMap<I, Node<S, F>> cache = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    MemoizedFunction(
+        Function<I, Result<S, F>> function,
+        int maximumSize,
+        Eviction eviction,
+        long successTimeToLiveMillis,
+        long failureTimeToLiveMillis,
+        Clock clock
+    ) {
+        this.function = function;
+        this.maximumSize = maximumSize;
+        this.mostValuableFirst = eviction == Eviction.LEAST_FREQUENTLY_USED
+            ? Comparator.<Candidate<?, ?, ?>>comparingInt(candidate -> candidate.uses).thenComparingLong(candidate -> candidate.lastUsed).reversed()
+            : Comparator.<Candidate<?, ?, ?>>comparingLong(candidate -> candidate.lastUsed).reversed();
+        this.successTimeToLiveMillis = successTimeToLiveMillis;
+        this.failureTimeToLiveMillis = failureTimeToLiveMillis;
+        this.clock = clock;
+    }
+
+    @Override
+    public Result<S, F> apply(I input) {
+        if (input == null) {
+            return function.apply(null);
+        }
+
+        while (true) {
+            Node<S, F> node = cache.get(input);
+            if (node == null) {
+                Node<S, F> created = new Node<>();
+                node = cache.putIfAbsent(input, created);
+                if (node == null) {
+                    return compute(input, created);
+                }
+            }
+
+            if (node.isExpired(clock.millis())) {
+                cache.remove(input, node);
+                continue;
+            }
+
+            if (node.computingThread == Thread.currentThread()) {
+                throw new IllegalStateException("Memoized function called itself recursively for " + input + " while computing it");
+            }
+            node.recordUse();
+            return node.await();
+        }
+    }
+
+    /**
+     * Discards the cached Result for the provided input, if there is one
+     */
+    public void invalidate(I input) {
+        cache.remove(input);
+    }
+
+    /**
+     * Discards all cached Results
+     */
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    /**
+     * Returns the number of cached Results, including any being computed
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    private Result<S, F> compute(I input, Node<S, F> node) {
+        Result<S, F> result;
+        try {
+            result = function.apply(input);
+        } catch (RuntimeException | Error ex) {
+            cache.remove(input, node);
+            node.computingThread = null;
+            node.future.completeExceptionally(ex);
+            throw ex;
+        }
+
+        long timeToLive = result.either(__ -> successTimeToLiveMillis, __ -> failureTimeToLiveMillis);
+        if (timeToLive <= 0) {
+            cache.remove(input, node);
+        } else if (timeToLive != FOREVER) {
+            node.expiresAt = clock.millis() + timeToLive;
+        }
+        node.recordUse();
+        node.computingThread = null;
+        node.future.complete(result);
+
+        if (cache.size() > maximumSize) {
+            evict();
+        }
+        return result;
+    }
+
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            int toEvict = cache.size() - maximumSize + maximumSize / 10;
+            if (toEvict <= 0) {
+                return;
+            }
+
+            long now = clock.millis();
+            PriorityQueue<Candidate<I, S, F>> leastValuable = new PriorityQueue<>(toEvict + 1, mostValuableFirst);
+            for (Map.Entry<I, Node<S, F>> entry : cache.entrySet()) {
+                Node<S, F> node = entry.getValue();
+                if (!node.future.isDone()) {
+                    continue;
+                }
+                if (node.isExpired(now)) {
+                    cache.remove(entry.getKey(), node);
+                    continue;
+                }
+                leastValuable.add(new Candidate<>(entry.getKey(), node));
+                if (leastValuable.size() > toEvict) {
+                    leastValuable.poll();
+                }
+                node.uses >>>= 1;
+            }
+
+            for (Candidate<I, S, F> candidate : leastValuable) {
+                cache.remove(candidate.input, candidate.node);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static final class Node<S, F> {
+        private final CompletableFuture<Result<S, F>> future = new CompletableFuture<>();
+        private volatile long expiresAt = FOREVER;
+        // set until the Result's been computed, so a recursive call for the same input can be detected
+        private volatile Thread computingThread = Thread.currentThread();
+
+        // racy updates are fine here: these only guide eviction
+        private long lastUsed;
+        private int uses;
+
+        private void recordUse() {
+            lastUsed = System.nanoTime();
+            uses++;
+        }
+
+        private boolean isExpired(long now) {
+            return future.isDone() && now >= expiresAt;
+        }
+
+        private Result<S, F> await() {
+            try {
+                return future.join();
+            } catch (CompletionException ex) {
+                Throwable cause = ex.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * A snapshot of an entry's usage, so it doesn't change while candidates for eviction are compared
+     */
+    private static final class Candidate<I, S, F> {
+        private final I input;
+        private final Node<S, F> node;
+        private final long lastUsed;
+        private final int uses;
+
+        private Candidate(I input, Node<S, F> node) {
+            this.input = input;
+            this.node = node;
+            this.lastUsed = node.lastUsed;
+            this.uses = node.uses;
+        }
+    }
+}
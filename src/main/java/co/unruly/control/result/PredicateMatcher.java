@@ -0,0 +1,28 @@
+package co.unruly.control.result;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A matcher which succeeds on values satisfying a predicate, as built by Recover.ifIs().
+ */
+final class PredicateMatcher<S, F> implements Match.Matcher<F, S> {
+
+    private final Predicate<F> test;
+    private final Function<F, S> mapper;
+
+    PredicateMatcher(Predicate<F> test, Function<F, S> mapper) {
+        this.test = test;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public boolean matches(F input) {
+        return test.test(input);
+    }
+
+    @Override
+    public S applyMatched(F input) {
+        return mapper.apply(input);
+    }
+}
@@ -24,7 +24,7 @@ public interface Recover {
      * the input value as a Failure.
      */
     static <S, F, TF extends F> Function<F, Result<S, F>> ifType(Class<TF> targetClass, Function<TF, S> mapper) {
-        return Introducers.<F, TF>castTo(targetClass).andThen(Transformers.onSuccess(mapper));
+        return new TypeMatcher<>(targetClass, mapper);
     }
 
     /**
@@ -33,9 +33,7 @@ public interface Recover {
      * the input value as a Failure.
      */
     static <S, F> Function<F, Result<S, F>> ifIs(Predicate<F> test, Function<F, S> mapper) {
-        return input -> test.test(input)
-            ? Result.success(mapper.apply(input))
-            : Result.failure(input);
+        return new PredicateMatcher<>(test, mapper);
     }
 
     /**
@@ -53,9 +51,7 @@ public interface Recover {
      * the input value as a Failure.
      */
     static <S, F> Function<F, Result<S, F>> ifEquals(F expectedValue, Function<F, S> mapper) {
-        return input -> expectedValue.equals(input)
-            ? Result.success(mapper.apply(input))
-            : Result.failure(input);
+        return new EqualityMatcher<>(expectedValue, mapper);
     }
 
     /**
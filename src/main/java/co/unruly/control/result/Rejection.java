@@ -0,0 +1,27 @@
+package co.unruly.control.result;
+
+/**
+ * Why a call protected by one of the {@link Resilience} combinators was rejected rather than completed.
+ * Combinators take a function to turn a Rejection into the protected function's own failure type.
+ */
+public enum Rejection {
+    /**
+     * The call didn't complete within its timeout
+     */
+    TIMED_OUT,
+
+    /**
+     * The executor, or the scheduler timing the call, refused to run it
+     */
+    EXECUTOR_UNAVAILABLE,
+
+    /**
+     * The bulkhead was already running as many calls as it allows
+     */
+    BULKHEAD_FULL,
+
+    /**
+     * The circuit breaker was open, so the call wasn't attempted
+     */
+    CIRCUIT_OPEN
+}
@@ -0,0 +1,69 @@
+package co.unruly.control.result;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A uniform random sample of at most a fixed number of items from a sequence of unknown length,
+ * maintained in constant memory using reservoir sampling.
+ */
+class ReservoirSample<T> {
+
+    private final int capacity;
+    private final List<T> items;
+    private long seen = 0;
+
+    ReservoirSample(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Sample size cannot be negative, but was " + capacity);
+        }
+        this.capacity = capacity;
+        this.items = new ArrayList<>(Math.min(capacity, 16));
+    }
+
+    void add(T item) {
+        seen++;
+        if (items.size() < capacity) {
+            items.add(item);
+        } else {
+            long slot = ThreadLocalRandom.current().nextLong(seen);
+            if (slot < capacity) {
+                items.set((int) slot, item);
+            }
+        }
+    }
+
+    /**
+     * Merges two samples into a sample of their combined sequences, by repeatedly drawing from
+     * whichever sample is chosen with probability proportional to how many items it represents.
+     */
+    ReservoirSample<T> merge(ReservoirSample<T> other) {
+        ReservoirSample<T> merged = new ReservoirSample<>(capacity);
+        merged.seen = seen + other.seen;
+
+        List<T> left = new ArrayList<>(items);
+        List<T> right = new ArrayList<>(other.items);
+        long leftRemaining = seen;
+        long rightRemaining = other.seen;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (merged.items.size() < capacity && (!left.isEmpty() || !right.isEmpty())) {
+            boolean fromLeft = right.isEmpty()
+                || (!left.isEmpty() && random.nextLong(leftRemaining + rightRemaining) < leftRemaining);
+            if (fromLeft) {
+                merged.items.add(left.remove(random.nextInt(left.size())));
+                leftRemaining--;
+            } else {
+                merged.items.add(right.remove(random.nextInt(right.size())));
+                rightRemaining--;
+            }
+        }
+        return merged;
+    }
+
+    List<T> toList() {
+        return Collections.unmodifiableList(items);
+    }
+}
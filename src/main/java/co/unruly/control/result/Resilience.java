@@ -0,0 +1,145 @@
+package co.unruly.control.result;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A collection of combinators which protect calls to unreliable dependencies, such as those wrapped
+ * in Introducers.tryTo(), returning functions which still yield Results.
+ * <pre>
+ * {@code
+ * CircuitBreaker breaker = new CircuitBreaker(5, Duration.ofSeconds(30));
+ * Bulkhead bulkhead = new Bulkhead(20);
+ *
+ * Function<String, Result<Account, String>> lookup = retrying(
+ *     breaker.protect(
+ *         bulkhead.protect(
+ *             timingOut(tryTo(accounts::find, Exception::getMessage), Duration.ofMillis(200), executor, Rejection::name),
+ *             Rejection::name),
+ *         Rejection::name),
+ *     Backoff.exponential(Duration.ofMillis(50), Duration.ofSeconds(1)),
+ *     failure -> !failure.equals(Rejection.CIRCUIT_OPEN.name()));
+ * }
+ * </pre>
+ * When a call is rejected, rather than attempted or completed, the failure is a {@link Rejection} converted
+ * into the function's failure type by a function provided with the combinator, so callers handle
+ * rejections like any other failure. Exceptions thrown by protected functions are rethrown as they are.
+ *
+ * @see CircuitBreaker
+ * @see Bulkhead
+ */
+public interface Resilience {
+
+    /**
+     * Returns a function which applies the provided function, retrying it after each failure with
+     * the provided backoff, and returns its first success, or its last failure if every attempt failed
+     */
+    static <I, O, F> Function<I, Result<O, F>> retrying(Function<I, Result<O, F>> function, Backoff backoff) {
+        return retrying(function, backoff, __ -> true);
+    }
+
+    /**
+     * Returns a function which applies the provided function, retrying it with the provided backoff after
+     * each failure which passes the test, and returns its first success, or the first failure which fails
+     * the test, or its last failure if every attempt failed.
+     * <p>
+     * If the calling thread is interrupted while waiting to retry, no more attempts are made, the last
+     * failure is returned, and the thread's interrupt flag is left set.
+     */
+    static <I, O, F> Function<I, Result<O, F>> retrying(Function<I, Result<O, F>> function, Backoff backoff, Predicate<F> retryIf) {
+        int maxAttempts = backoff.maxAttempts();
+        return input -> {
+            Result<O, F> result = function.apply(input);
+            for (int retry = 1; retry < maxAttempts; retry++) {
+                boolean retryable = result.either(__ -> false, retryIf::test);
+                if (!retryable || !backoff.awaitRetry(retry)) {
+                    break;
+                }
+                result = function.apply(input);
+            }
+            return result;
+        };
+    }
+
+    /**
+     * Returns a function which applies the provided function on the provided executor, and returns its
+     * Result if it completes in time, or otherwise interrupts it and returns a failure of TIMED_OUT,
+     * converted by the provided function. Timeouts are timed by a shared daemon thread.
+     * <p>
+     * If the executor refuses to run the call, it returns a failure of EXECUTOR_UNAVAILABLE instead.
+     * If the calling thread is interrupted while waiting, the call is cancelled as if it had timed out,
+     * and the thread's interrupt flag is left set.
+     */
+    static <I, O, F> Function<I, Result<O, F>> timingOut(Function<I, Result<O, F>> function, Duration timeout, Executor executor, Function<Rejection, F> onRejection) {
+        return timingOut(function, timeout, executor, TimeoutScheduler.INSTANCE, onRejection);
+    }
+
+    /**
+     * Returns a function which applies the provided function on the provided executor, and returns its
+     * Result if it completes in time, or otherwise interrupts it and returns a failure of TIMED_OUT,
+     * converted by the provided function. Timeouts are timed by the provided scheduler, which cancels
+     * the call once its timeout has elapsed. A call the executor runs on the calling thread isn't
+     * interrupted, but still returns TIMED_OUT once it finishes if it took too long.
+     * <p>
+     * If the executor or the scheduler refuses to run the call or its timeout, it returns a failure of
+     * EXECUTOR_UNAVAILABLE instead. If the calling thread is interrupted while waiting, the call is
+     * cancelled as if it had timed out, and the thread's interrupt flag is left set.
+     */
+    static <I, O, F> Function<I, Result<O, F>> timingOut(Function<I, Result<O, F>> function, Duration timeout, Executor executor, ScheduledExecutorService scheduler, Function<Rejection, F> onRejection) {
+        F timedOut = onRejection.apply(Rejection.TIMED_OUT);
+        F unavailable = onRejection.apply(Rejection.EXECUTOR_UNAVAILABLE);
+        long timeoutNanos = timeout.toNanos();
+        return input -> {
+            FutureTask<Result<O, F>> call = new FutureTask<>(() -> function.apply(input));
+            Thread caller = Thread.currentThread();
+            AtomicReference<Thread> runner = new AtomicReference<>();
+            ScheduledFuture<?> timer;
+            try {
+                timer = scheduler.schedule(() -> {
+                    // an executor which runs the call on the caller's thread mustn't leave the caller interrupted
+                    Thread running = runner.get();
+                    call.cancel(running != null && running != caller);
+                }, timeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException ex) {
+                return Result.failure(unavailable);
+            }
+
+            try {
+                executor.execute(() -> {
+                    runner.set(Thread.currentThread());
+                    call.run();
+                });
+                return call.get();
+            } catch (RejectedExecutionException ex) {
+                return Result.failure(unavailable);
+            } catch (CancellationException ex) {
+                return Result.failure(timedOut);
+            } catch (InterruptedException ex) {
+                call.cancel(true);
+                Thread.currentThread().interrupt();
+                return Result.failure(timedOut);
+            } catch (ExecutionException ex) {
+                Throwable cause = ex.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException(cause);
+            } finally {
+                timer.cancel(false);
+            }
+        };
+    }
+}
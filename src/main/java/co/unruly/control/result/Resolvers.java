@@ -3,12 +3,17 @@ package co.unruly.control.result;
 import co.unruly.control.pair.Pair;
 import co.unruly.control.pair.Pairs;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collector;
 import java.util.stream.Stream;
 
+import static co.unruly.control.result.Result.failure;
+import static co.unruly.control.result.Result.success;
+import static co.unruly.control.result.Transformers.onFailure;
 import static java.util.Collections.unmodifiableList;
 import static java.util.function.Function.identity;
 import static java.util.stream.Stream.empty;
@@ -96,6 +101,29 @@ public interface Resolvers {
         return new ResultCollector<>(pair -> Pair.of(unmodifiableList(pair.left), unmodifiableList(pair.right)));
     }
 
+    /**
+     * Collects a Stream of Results into a Pair of Lists, the left containing the unwrapped
+     * success values, the right containing the unwrapped failures.
+     *
+     * This makes room for the given number of successes up front, avoiding repeated resizing
+     * when the size of the stream is known in advance.
+     */
+    static <S, F> Collector<Result<S, F>, Pair<List<S>, List<F>>, Pair<List<S>, List<F>>> split(int expectedSuccesses) {
+        return new ResultCollector<>(pair -> Pair.of(unmodifiableList(pair.left), unmodifiableList(pair.right)), expectedSuccesses);
+    }
+
+    /**
+     * Collects a Stream of Results into a Pair of Lists, the left containing the unwrapped
+     * success values, the right containing the unwrapped failures, in no particular order.
+     *
+     * This is a concurrent collector: on a parallel stream, all threads accumulate into a single
+     * shared container rather than building partial lists which are then merged, which scales
+     * better across cores for large streams where order doesn't matter.
+     */
+    static <S, F> Collector<Result<S, F>, ?, Pair<List<S>, List<F>>> concurrentSplit() {
+        return new ConcurrentResultCollector<>(pair -> Pair.of(unmodifiableList(pair.left), unmodifiableList(pair.right)));
+    }
+
     /**
      * Collects a Stream of Results into a Result which contains a List of Successes, if all results in
      * the stream were successful, or a list of Failures if any failed.
@@ -104,6 +132,27 @@ public interface Resolvers {
         return new ResultCollector<>(Pairs::anyFailures);
     }
 
+    /**
+     * Collects a Stream of Results into a Result which contains a List of Successes, if all results in
+     * the stream were successful, or a list of Failures if any failed.
+     *
+     * This makes room for the given number of successes up front, avoiding repeated resizing
+     * when the size of the stream is known in advance.
+     */
+    static <S, F> Collector<Result<S, F>, Pair<List<S>, List<F>>, Result<List<S>, List<F>>> allSucceeded(int expectedSuccesses) {
+        return new ResultCollector<>(Pairs::anyFailures, expectedSuccesses);
+    }
+
+    /**
+     * Collects a Stream of Results into a Result which contains a List of Successes, if all results in
+     * the stream were successful, or a list of Failures if any failed. The lists are in no particular order.
+     *
+     * This is a concurrent collector: see concurrentSplit().
+     */
+    static <S, F> Collector<Result<S, F>, ?, Result<List<S>, List<F>>> concurrentAllSucceeded() {
+        return new ConcurrentResultCollector<>(Pairs::anyFailures);
+    }
+
     /**
      * Collects a Stream of Results into a Result which contains a List of Successes, if any results in
      * the stream were successful, or a list of Failures if all failed.
@@ -111,4 +160,99 @@ public interface Resolvers {
     static <S, F> Collector<Result<S, F>, Pair<List<S>, List<F>>, Result<List<S>, List<F>>> anySucceeded() {
         return new ResultCollector<>(Pairs::anySuccesses);
     }
+
+    /**
+     * Counts the successes and failures in a Stream of Results, without retaining any of them.
+     */
+    static <S, F> Collector<Result<S, F>, ?, ResultCounts> countSuccessesAndFailures() {
+        return Collector.<Result<S, F>, long[], ResultCounts>of(
+            () -> new long[2],
+            (counts, result) -> counts[result.either(__ -> 0, __ -> 1)]++,
+            (x, y) -> {
+                x[0] += y[0];
+                x[1] += y[1];
+                return x;
+            },
+            counts -> ResultCounts.of(counts[0], counts[1]),
+            Collector.Characteristics.UNORDERED
+        );
+    }
+
+    /**
+     * Collects a Stream of Results into a Pair, the left being the result of collecting the success values with
+     * the first collector, and the right being the result of collecting the failure values with the second.
+     *
+     * Each value is passed straight to the appropriate downstream collector, so nothing is buffered beyond what
+     * those collectors retain: for example, splitWith(counting(), toList()) only keeps the failures.
+     */
+    static <S, F, A, B> Collector<Result<S, F>, ?, Pair<A, B>> splitWith(Collector<S, ?, A> onSuccesses, Collector<F, ?, B> onFailures) {
+        return new SplittingResultCollector<>(onSuccesses, onFailures);
+    }
+
+    /**
+     * Collects a uniformly random sample of at most maxFailures of the failure values in a Stream of Results,
+     * using reservoir sampling so memory use is bounded by the sample size rather than the size of the stream.
+     * If there are no more than maxFailures failures, they are all returned.
+     */
+    static <S, F> Collector<Result<S, F>, ?, List<F>> sampleFailures(int maxFailures) {
+        return Collector.<Result<S, F>, ReservoirSample<F>, List<F>>of(
+            () -> new ReservoirSample<>(maxFailures),
+            (sample, result) -> result.either(__ -> sample, failure -> {
+                sample.add(failure);
+                return sample;
+            }),
+            ReservoirSample::merge,
+            ReservoirSample::toList,
+            Collector.Characteristics.UNORDERED
+        );
+    }
+
+    /**
+     * Takes a Stream of Results and returns a Result which contains a List of Successes, if all results in
+     * the stream were successful, or the first Failure otherwise.
+     *
+     * Unlike collecting with allSucceeded(), this stops consuming the stream as soon as it finds a failure,
+     * so no further upstream work is done, and closes the stream once it's done with it.
+     */
+    static <S, F> Result<List<S>, F> allSucceededOrFirstFailure(Stream<Result<S, F>> results) {
+        return allSucceededOrFirstFailures(results, 1).then(onFailure(failures -> failures.get(0)));
+    }
+
+    /**
+     * Takes a Stream of Results and returns a Result which contains a List of Successes, if all results in
+     * the stream were successful, or a List of up to maxFailures Failures otherwise.
+     *
+     * Unlike collecting with allSucceeded(), this stops consuming the stream as soon as it has found
+     * maxFailures failures, stops retaining successes once it has found a failure, and closes the
+     * stream once it's done with it.
+     */
+    static <S, F> Result<List<S>, List<F>> allSucceededOrFirstFailures(Stream<Result<S, F>> results, int maxFailures) {
+        if (maxFailures < 1) {
+            throw new IllegalArgumentException("Must collect at least one failure, but asked for " + maxFailures);
+        }
+
+        try (Stream<Result<S, F>> stream = results) {
+            Iterator<Result<S, F>> iterator = stream.iterator();
+            List<S> successes = new ArrayList<>();
+            List<F> failures = new ArrayList<>();
+
+            while (failures.isEmpty() && iterator.hasNext()) {
+                iterator.next().either(successes::add, failures::add);
+            }
+
+            if (failures.isEmpty()) {
+                return success(unmodifiableList(successes));
+            }
+
+            // the successes are discarded once there's a failure, but the local would keep them reachable
+            // while we pull up to maxFailures - 1 more results through the stream
+            successes = null;
+
+            while (failures.size() < maxFailures && iterator.hasNext()) {
+                iterator.next().either(__ -> false, failures::add);
+            }
+
+            return failure(unmodifiableList(failures));
+        }
+    }
 }
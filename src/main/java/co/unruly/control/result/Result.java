@@ -1,7 +1,11 @@
 package co.unruly.control.result;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
@@ -13,41 +17,90 @@ import java.util.function.Function;
  * with static methods on Introducers, Transformers, and Resolvers.
  *
  * These can be composed upon a Result by passing them as arguments to then().
+ * <p>
+ * Results are immutable, so success() and failure() share a single instance for commonly-repeated
+ * values rather than allocating a new one each time: null, Boolean.TRUE and Boolean.FALSE, the empty
+ * Optional, and the constants of enums loaded alongside this library (including Unit.UNIT). Up to
+ * 256 other values on each side can be shared by registering them with registerCanonicalSuccess() or
+ * registerCanonicalFailure(), and released again by unregistering them.
  *
  * @param <S> The type of a success
  * @param <F> The type of a failure
  */
 public abstract class Result<S, F> implements Serializable {
 
+    private static final Flyweights SUCCESSES = new Flyweights(Success::new);
+    private static final Flyweights FAILURES = new Flyweights(Failure::new);
+
     private Result() {
     }
 
     /**
-     * Creates a new Success
+     * Creates a new Success, or returns the shared Success for that value if there is one
      */
     public static <S, F> Result<S, F> success(S value) {
-        return new Success<>(value);
+        Result<S, F> canonical = SUCCESSES.lookup(value);
+        return canonical != null ? canonical : new Success<>(value);
     }
 
     /**
      * Creates a new Success, taking the failure type for contexts where it can't be inferred.
      */
     public static <S, F> Result<S, F> success(S value, Class<F> failureType) {
-        return new Success<>(value);
+        return success(value);
     }
 
     /**
-     * Creates a new Failure
+     * Creates a new Failure, or returns the shared Failure for that value if there is one
      */
     public static <S, F> Result<S, F> failure(F error) {
-        return new Failure<>(error);
+        Result<S, F> canonical = FAILURES.lookup(error);
+        return canonical != null ? canonical : new Failure<>(error);
     }
 
     /**
      * Creates a new Failure, taking the success type for contexts where it can't be inferred.
      */
     public static <S, F> Result<S, F> failure(F error, Class<S> successType) {
-        return new Failure<>(error);
+        return failure(error);
+    }
+
+    /**
+     * Registers a value, so subsequent calls to success() with that exact instance return a shared Success
+     * rather than allocating a new one. This is intended for constants, such as a common response object.
+     * The registry holds registered values until they're unregistered.
+     *
+     * @return whether the value is now shared: false if the registry already holds as many values as it allows
+     */
+    public static boolean registerCanonicalSuccess(Object value) {
+        return SUCCESSES.register(value);
+    }
+
+    /**
+     * Registers a value, so subsequent calls to failure() with that exact instance return a shared Failure
+     * rather than allocating a new one. This is intended for constants, such as a NOT_FOUND error code.
+     * The registry holds registered values until they're unregistered.
+     *
+     * @return whether the value is now shared: false if the registry already holds as many values as it allows
+     */
+    public static boolean registerCanonicalFailure(Object error) {
+        return FAILURES.register(error);
+    }
+
+    /**
+     * Stops sharing a Success for a value registered with registerCanonicalSuccess(), releasing it -
+     * for instance, when the code which registered it is being unloaded
+     */
+    public static void unregisterCanonicalSuccess(Object value) {
+        SUCCESSES.unregister(value);
+    }
+
+    /**
+     * Stops sharing a Failure for a value registered with registerCanonicalFailure(), releasing it -
+     * for instance, when the code which registered it is being unloaded
+     */
+    public static void unregisterCanonicalFailure(Object error) {
+        FAILURES.unregister(error);
     }
 
     /**
@@ -162,4 +215,102 @@ public abstract class Result<S, F> implements Serializable {
         }
     }
 
+    /**
+     * Holds the shared instances for one side of Result. Registered values are looked up by identity,
+     * so a lookup never calls equals() or hashCode() on arbitrary values.
+     * <p>
+     * Shared Results for an enum's constants are cached on the enum's class, which would keep this library's
+     * class loader alive for as long as the enum's is. So they're only cached for enums whose class loader
+     * can't outlive this library's: those loaded by the same loader, or by one of its descendants.
+     */
+    private static final class Flyweights {
+        private static final int MAX_REGISTERED = 256;
+        private static final Result<?, ?>[] NOT_CACHED = new Result<?, ?>[0];
+
+        private final Function<Object, Result<Object, Object>> constructor;
+        private final Result<Object, Object> ofNull;
+        private final Result<Object, Object> ofTrue;
+        private final Result<Object, Object> ofFalse;
+        private final Result<Object, Object> ofEmptyOptional;
+        private final ClassValue<Result<?, ?>[]> ofEnumConstants;
+        private volatile Map<Object, Result<Object, Object>> registered = Collections.emptyMap();
+
+        private Flyweights(Function<Object, Result<Object, Object>> constructor) {
+            this.constructor = constructor;
+            this.ofNull = constructor.apply(null);
+            this.ofTrue = constructor.apply(Boolean.TRUE);
+            this.ofFalse = constructor.apply(Boolean.FALSE);
+            this.ofEmptyOptional = constructor.apply(Optional.empty());
+            this.ofEnumConstants = new ClassValue<Result<?, ?>[]>() {
+                @Override
+                protected Result<?, ?>[] computeValue(Class<?> enumType) {
+                    if (!loadedAlongside(enumType)) {
+                        return NOT_CACHED;
+                    }
+                    Object[] constants = enumType.getEnumConstants();
+                    Result<?, ?>[] results = new Result<?, ?>[constants.length];
+                    for (int i = 0; i < constants.length; i++) {
+                        results[i] = constructor.apply(constants[i]);
+                    }
+                    return results;
+                }
+            };
+        }
+
+        @SuppressWarnings("unchecked")
+        private <S, F> Result<S, F> lookup(Object value) {
+            Result<?, ?> canonical;
+            if (value == null) {
+                canonical = ofNull;
+            } else if (value == Boolean.TRUE) {
+                canonical = ofTrue;
+            } else if (value == Boolean.FALSE) {
+                canonical = ofFalse;
+            } else if (value instanceof Enum) {
+                Enum<?> constant = (Enum<?>) value;
+                Result<?, ?>[] constants = ofEnumConstants.get(constant.getDeclaringClass());
+                canonical = constants == NOT_CACHED ? null : constants[constant.ordinal()];
+            } else if (value == Optional.empty()) {
+                canonical = ofEmptyOptional;
+            } else {
+                Map<Object, Result<Object, Object>> registeredValues = registered;
+                canonical = registeredValues.isEmpty() ? null : registeredValues.get(value);
+            }
+            return (Result<S, F>) canonical;
+        }
+
+        private synchronized boolean register(Object value) {
+            if (lookup(value) != null) {
+                return true;
+            }
+            if (registered.size() >= MAX_REGISTERED) {
+                return false;
+            }
+            Map<Object, Result<Object, Object>> updated = new IdentityHashMap<>(registered);
+            updated.put(value, constructor.apply(value));
+            registered = updated;
+            return true;
+        }
+
+        private synchronized void unregister(Object value) {
+            if (registered.containsKey(value)) {
+                Map<Object, Result<Object, Object>> updated = new IdentityHashMap<>(registered);
+                updated.remove(value);
+                registered = updated.isEmpty() ? Collections.emptyMap() : updated;
+            }
+        }
+
+        private static boolean loadedAlongside(Class<?> type) {
+            ClassLoader ours = Result.class.getClassLoader();
+            if (ours == null) {
+                return true;
+            }
+            for (ClassLoader loader = type.getClassLoader(); loader != null; loader = loader.getParent()) {
+                if (loader == ours) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
 }
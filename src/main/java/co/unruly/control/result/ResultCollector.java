@@ -6,31 +6,59 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
-import java.util.stream.Stream;
-
-import static java.util.Collections.unmodifiableList;
-import static java.util.stream.Collectors.toList;
 
 /**
  * Collects a Stream of Results into a Pair, with the left being a list of success values
  * and the right being a list of failure values.
+ *
+ * Partial results from parallel streams are merged by appending the later lists to the earlier
+ * ones in place, so encounter order is preserved without copying every element at every merge.
  */
 class ResultCollector<L, R, T> implements Collector<Result<L, R>, Pair<List<L>, List<R>>, T> {
 
+    private static final int DEFAULT_CAPACITY = 10;
+
     private final Function<Pair<List<L>, List<R>>, T> finisher;
+    private final int expectedSuccesses;
+    private final IntFunction<List<L>> successLists;
 
     ResultCollector(Function<Pair<List<L>, List<R>>, T> finisher) {
+        this(finisher, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param expectedSuccesses a hint for how many successes to make room for up front. Only the first
+     *                          partial result of each collection is pre-sized with this hint: in a parallel
+     *                          stream, the others start small, so a large hint isn't allocated per task.
+     */
+    ResultCollector(Function<Pair<List<L>, List<R>>, T> finisher, int expectedSuccesses) {
+        this(finisher, expectedSuccesses, ArrayList::new);
+    }
+
+    /**
+     * @param successLists creates the list of successes for each partial result, given its initial capacity
+     */
+    ResultCollector(Function<Pair<List<L>, List<R>>, T> finisher, int expectedSuccesses, IntFunction<List<L>> successLists) {
         this.finisher = finisher;
+        this.expectedSuccesses = expectedSuccesses;
+        this.successLists = successLists;
     }
 
     @Override
     public Supplier<Pair<List<L>, List<R>>> supplier() {
-        return () -> new Pair<>(new ArrayList<>(), new ArrayList<>());
+        // streams ask for the supplier once per collection, so this flag is per collection too
+        AtomicBoolean presized = new AtomicBoolean();
+        return () -> new Pair<>(
+            successLists.apply(presized.compareAndSet(false, true) ? expectedSuccesses : DEFAULT_CAPACITY),
+            new ArrayList<>()
+        );
     }
 
     @Override
@@ -40,10 +68,11 @@ class ResultCollector<L, R, T> implements Collector<Result<L, R>, Pair<List<L>,
 
     @Override
     public BinaryOperator<Pair<List<L>, List<R>>> combiner() {
-        return (x, y) -> Pair.of(
-                Stream.of(x, y).flatMap(l -> l.left.stream()).collect(toList()),
-                Stream.of(x, y).flatMap(r -> r.right.stream()).collect(toList())
-        );
+        return (x, y) -> {
+            x.left.addAll(y.left);
+            x.right.addAll(y.right);
+            return x;
+        };
     }
 
     @Override
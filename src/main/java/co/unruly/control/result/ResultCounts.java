@@ -0,0 +1,57 @@
+package co.unruly.control.result;
+
+/**
+ * The number of successes and failures in a Stream of Results, as counted by
+ * Resolvers.countSuccessesAndFailures(). Counts are held as primitives, so they aren't boxed.
+ */
+public final class ResultCounts {
+
+    private final long successes;
+    private final long failures;
+
+    private ResultCounts(long successes, long failures) {
+        this.successes = successes;
+        this.failures = failures;
+    }
+
+    public static ResultCounts of(long successes, long failures) {
+        return new ResultCounts(successes, failures);
+    }
+
+    public long successes() {
+        return successes;
+    }
+
+    public long failures() {
+        return failures;
+    }
+
+    /**
+     * Returns the number of Results counted, successful or not
+     */
+    public long total() {
+        return successes + failures;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ResultCounts counts = (ResultCounts) o;
+        return successes == counts.successes &&
+                failures == counts.failures;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(successes) + Long.hashCode(failures);
+    }
+
+    @Override
+    public String toString() {
+        return "ResultCounts{" +
+                "successes=" + successes +
+                ", failures=" + failures +
+                '}';
+    }
+}
@@ -0,0 +1,173 @@
+package co.unruly.control.result;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Builds a sequence of operations on a Result which are fused together into a single function
+ * when compiled.
+ * <p>
+ * A chain of Transformers such as:
+ * <pre>
+ * {@code
+ * result.then(onSuccess(Integer::parseInt))
+ *       .then(attempt(this::lookup))
+ *       .then(onFailure(String::toUpperCase));
+ * }
+ * </pre>
+ * creates a new Result (and several intermediate functions) at every step. The equivalent pipeline:
+ * <pre>
+ * {@code
+ * Function<Result<String, String>, Result<Hat, String>> pipeline = ResultPipeline.pipeline(String.class, String.class)
+ *       .onSuccess(Integer::parseInt)
+ *       .attempt(this::lookup)
+ *       .onFailure(String::toUpperCase)
+ *       .compile();
+ * }
+ * </pre>
+ * tracks the value and which side it's on between steps, so it only creates the final Result (and
+ * any Results returned by the provided functions). If no step applies, the input Result is returned
+ * as-is, and if the last step to apply returned a Result, that Result is returned as-is.
+ * <p>
+ * Pipelines are immutable: each step returns a new pipeline, so partial pipelines can be shared
+ * and extended.
+ *
+ * @param <IS> the success type of the Result the compiled function accepts
+ * @param <IF> the failure type of the Result the compiled function accepts
+ * @param <S> the success type of the Result the compiled function returns
+ * @param <F> the failure type of the Result the compiled function returns
+ */
+public final class ResultPipeline<IS, IF, S, F> {
+
+    private static final ResultPipeline<?, ?, ?, ?> EMPTY = new ResultPipeline<>(new Stage[0]);
+
+    private final Stage[] stages;
+
+    private ResultPipeline(Stage[] stages) {
+        this.stages = stages;
+    }
+
+    /**
+     * Starts a new, empty pipeline
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, F> ResultPipeline<S, F, S, F> pipeline() {
+        return (ResultPipeline<S, F, S, F>) EMPTY;
+    }
+
+    /**
+     * Starts a new, empty pipeline, taking the success and failure types for contexts where they can't be inferred.
+     */
+    public static <S, F> ResultPipeline<S, F, S, F> pipeline(Class<S> successType, Class<F> failureType) {
+        return pipeline();
+    }
+
+    /**
+     * Adds a step which, if the Result is a success, applies the mapping function to that success,
+     * otherwise retaining the failure.
+     *
+     * @see Transformers#onSuccess(Function)
+     */
+    public <OS> ResultPipeline<IS, IF, OS, F> onSuccess(Function<S, OS> mappingFunction) {
+        return then(new Stage(true, false, mappingFunction));
+    }
+
+    /**
+     * Adds a step which, if the Result is a success, applies the provided function to that success,
+     * continuing with the Result it returns, otherwise retaining the failure.
+     *
+     * @see Transformers#attempt(Function)
+     */
+    public <OS, OF extends F> ResultPipeline<IS, IF, OS, F> attempt(Function<S, Result<OS, OF>> mappingFunction) {
+        return then(new Stage(true, true, mappingFunction));
+    }
+
+    /**
+     * Adds a step which, if the Result is a failure, applies the mapping function to that failure,
+     * otherwise retaining the success.
+     *
+     * @see Transformers#onFailure(Function)
+     */
+    public <OF> ResultPipeline<IS, IF, S, OF> onFailure(Function<F, OF> mappingFunction) {
+        return then(new Stage(false, false, mappingFunction));
+    }
+
+    /**
+     * Adds a step which, if the Result is a failure, applies the provided function to that failure,
+     * continuing with the Result it returns, otherwise retaining the success.
+     *
+     * @see Transformers#recover(Function)
+     */
+    public <OS extends S, OF> ResultPipeline<IS, IF, S, OF> recover(Function<F, Result<OS, OF>> recoveryFunction) {
+        return then(new Stage(false, true, recoveryFunction));
+    }
+
+    /**
+     * Compiles the pipeline into a single function on Results.
+     */
+    public Function<Result<IS, IF>, Result<S, F>> compile() {
+        return new CompiledPipeline<>(stages);
+    }
+
+    private <OS, OF> ResultPipeline<IS, IF, OS, OF> then(Stage stage) {
+        Stage[] extended = Arrays.copyOf(stages, stages.length + 1);
+        extended[stages.length] = stage;
+        return new ResultPipeline<>(extended);
+    }
+
+    private static final class Stage {
+        private final boolean onSuccess;
+        private final boolean returnsResult;
+        private final Function<Object, Object> function;
+
+        @SuppressWarnings("unchecked")
+        private Stage(boolean onSuccess, boolean returnsResult, Function<?, ?> function) {
+            this.onSuccess = onSuccess;
+            this.returnsResult = returnsResult;
+            this.function = (Function<Object, Object>) function;
+        }
+    }
+
+    private static final class CompiledPipeline<IS, IF, S, F> implements Function<Result<IS, IF>, Result<S, F>> {
+
+        // these are non-capturing, so they don't allocate when passed to either()
+        private static final Function<Object, Boolean> IS_SUCCESS = __ -> true;
+        private static final Function<Object, Boolean> IS_FAILURE = __ -> false;
+        private static final Function<Object, Object> VALUE = x -> x;
+
+        private final Stage[] stages;
+
+        private CompiledPipeline(Stage[] stages) {
+            this.stages = stages;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Result<S, F> apply(Result<IS, IF> input) {
+            Result<Object, Object> current = (Result<Object, Object>) (Result<?, ?>) input;
+            boolean succeeded = current.either(IS_SUCCESS, IS_FAILURE);
+            Object value = current.either(VALUE, VALUE);
+
+            for (Stage stage : stages) {
+                if (stage.onSuccess != succeeded) {
+                    continue;
+                }
+
+                Object output = stage.function.apply(value);
+                if (stage.returnsResult) {
+                    current = (Result<Object, Object>) output;
+                    succeeded = current.either(IS_SUCCESS, IS_FAILURE);
+                    value = current.either(VALUE, VALUE);
+                } else {
+                    current = null;
+                    value = output;
+                }
+            }
+
+            if (current != null) {
+                return (Result<S, F>) (Result<?, ?>) current;
+            }
+            return succeeded ? Result.success((S) value) : Result.failure((F) value);
+        }
+    }
+}
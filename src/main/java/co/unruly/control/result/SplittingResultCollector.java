@@ -0,0 +1,73 @@
+package co.unruly.control.result;
+
+import co.unruly.control.pair.Pair;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * Collects a Stream of Results into a Pair, by passing the success values to one downstream collector
+ * and the failure values to another, without buffering either side.
+ */
+class SplittingResultCollector<S, F, SA, FA, SR, FR> implements Collector<Result<S, F>, Pair<SA, FA>, Pair<SR, FR>> {
+
+    private final Collector<S, SA, SR> onSuccesses;
+    private final Collector<F, FA, FR> onFailures;
+
+    SplittingResultCollector(Collector<S, SA, SR> onSuccesses, Collector<F, FA, FR> onFailures) {
+        this.onSuccesses = onSuccesses;
+        this.onFailures = onFailures;
+    }
+
+    @Override
+    public Supplier<Pair<SA, FA>> supplier() {
+        Supplier<SA> successSupplier = onSuccesses.supplier();
+        Supplier<FA> failureSupplier = onFailures.supplier();
+        return () -> Pair.of(successSupplier.get(), failureSupplier.get());
+    }
+
+    @Override
+    public BiConsumer<Pair<SA, FA>, Result<S, F>> accumulator() {
+        BiConsumer<SA, S> successAccumulator = onSuccesses.accumulator();
+        BiConsumer<FA, F> failureAccumulator = onFailures.accumulator();
+        return (accumulator, result) -> result.either(
+            success -> {
+                successAccumulator.accept(accumulator.left, success);
+                return accumulator;
+            },
+            failure -> {
+                failureAccumulator.accept(accumulator.right, failure);
+                return accumulator;
+            }
+        );
+    }
+
+    @Override
+    public BinaryOperator<Pair<SA, FA>> combiner() {
+        BinaryOperator<SA> successCombiner = onSuccesses.combiner();
+        BinaryOperator<FA> failureCombiner = onFailures.combiner();
+        return (x, y) -> Pair.of(successCombiner.apply(x.left, y.left), failureCombiner.apply(x.right, y.right));
+    }
+
+    @Override
+    public Function<Pair<SA, FA>, Pair<SR, FR>> finisher() {
+        Function<SA, SR> successFinisher = onSuccesses.finisher();
+        Function<FA, FR> failureFinisher = onFailures.finisher();
+        return accumulator -> Pair.of(successFinisher.apply(accumulator.left), failureFinisher.apply(accumulator.right));
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        boolean unordered = onSuccesses.characteristics().contains(Characteristics.UNORDERED)
+            && onFailures.characteristics().contains(Characteristics.UNORDERED);
+        return unordered
+            ? Collections.unmodifiableSet(EnumSet.of(Characteristics.UNORDERED))
+            : Collections.emptySet();
+    }
+}
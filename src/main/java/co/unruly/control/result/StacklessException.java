@@ -0,0 +1,24 @@
+package co.unruly.control.result;
+
+/**
+ * An unchecked exception which doesn't capture a stack trace, for signalling expected failures - such
+ * as malformed input - from code wrapped in tryTo(), where the stack trace would never be looked at.
+ * <p>
+ * Throwing one costs little more than returning, and as it carries no stack trace or suppressed
+ * exceptions, a single instance can be shared and thrown repeatedly:
+ * <pre>
+ * {@code
+ * private static final StacklessException NOT_A_NUMBER = new StacklessException("not a number");
+ * }
+ * </pre>
+ */
+public class StacklessException extends RuntimeException {
+
+    public StacklessException(String message) {
+        super(message, null, false, false);
+    }
+
+    public StacklessException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
@@ -0,0 +1,20 @@
+package co.unruly.control.result;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Holds the scheduler which times calls made through Resilience.timingOut(), unless another is provided.
+ * Its thread only cancels calls which have run out of time, so one is enough.
+ */
+final class TimeoutScheduler {
+
+    static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "resilience-timeouts");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private TimeoutScheduler() {
+    }
+}
@@ -56,6 +56,19 @@ public interface Transformers {
         return attempt(tryTo(throwingFunction).andThen(onFailure(exceptionMapper)));
     }
 
+    /**
+     * Returns a function which takes a Result and, if it's a success, applies the mapping value
+     * to that success, returning a new success unless an exception is thrown, when it returns
+     * a failure of the exception as captured by the provided ExceptionCapture.
+     * If the input was a failure, it returns that failure.
+     */
+    static <IS, OS, F, X extends Exception> Function<Result<IS, F>, Result<OS, F>> onSuccessTry(
+        ThrowingLambdas.ThrowingFunction<IS, OS, X> throwingFunction,
+        ExceptionCapture<F> capture
+    ) {
+        return attempt(tryTo(throwingFunction, capture));
+    }
+
     /**
      * Returns a function which takes a Result and, if it's a success, applies the provided function
      * to that success - generating a new Result - and returns that Result. Otherwise, returns the
@@ -0,0 +1,90 @@
+package co.unruly.control.result;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Wraps a spliterator, yielding a success for each element it produces, and a single failure if it throws
+ * while producing one, after which it yields nothing more.
+ * <p>
+ * Exceptions thrown by whatever consumes the Results are not caught. When it hasn't been split, the source
+ * is closed as soon as it's exhausted or fails: once split, closing is left to the stream.
+ */
+final class TryingSpliterator<S, F> implements Spliterator<Result<S, F>> {
+
+    private static final int KEPT_CHARACTERISTICS = ORDERED | IMMUTABLE | CONCURRENT;
+
+    private final Spliterator<S> source;
+    private final Function<Exception, F> exceptionMapper;
+    private final Consumer<S> hold = element -> this.held = element;
+    private Runnable closeSource;
+    private S held;
+    private boolean finished;
+
+    TryingSpliterator(Spliterator<S> source, Function<Exception, F> exceptionMapper, Runnable closeSource) {
+        this.source = source;
+        this.exceptionMapper = exceptionMapper;
+        this.closeSource = closeSource;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Result<S, F>> action) {
+        if (finished) {
+            return false;
+        }
+
+        try {
+            if (!source.tryAdvance(hold)) {
+                finish();
+                return false;
+            }
+        } catch (Exception ex) {
+            finish();
+            action.accept(Result.failure(exceptionMapper.apply(ex)));
+            return true;
+        }
+
+        S element = held;
+        held = null;
+        action.accept(Result.success(element));
+        return true;
+    }
+
+    @Override
+    public Spliterator<Result<S, F>> trySplit() {
+        if (finished) {
+            return null;
+        }
+        Spliterator<S> prefix;
+        try {
+            prefix = source.trySplit();
+        } catch (Exception ex) {
+            return null;
+        }
+        if (prefix == null) {
+            return null;
+        }
+        closeSource = null;
+        return new TryingSpliterator<>(prefix, exceptionMapper, null);
+    }
+
+    @Override
+    public long estimateSize() {
+        return finished ? 0 : source.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return (source.characteristics() & KEPT_CHARACTERISTICS) | NONNULL;
+    }
+
+    private void finish() {
+        finished = true;
+        if (closeSource != null) {
+            Runnable close = closeSource;
+            closeSource = null;
+            close.run();
+        }
+    }
+}
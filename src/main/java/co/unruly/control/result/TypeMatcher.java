@@ -0,0 +1,29 @@
+package co.unruly.control.result;
+
+import java.util.function.Function;
+
+/**
+ * A matcher which succeeds on values of a given type, as built by Recover.ifType(). Match
+ * recognises these so it can dispatch on the class of a value instead of trying each in turn.
+ */
+final class TypeMatcher<S, F, TF extends F> implements Match.Matcher<F, S> {
+
+    final Class<TF> targetClass;
+    private final Function<TF, S> mapper;
+
+    TypeMatcher(Class<TF> targetClass, Function<TF, S> mapper) {
+        this.targetClass = targetClass;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public boolean matches(F input) {
+        return targetClass.isAssignableFrom(input.getClass());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public S applyMatched(F input) {
+        return mapper.apply((TF) input);
+    }
+}
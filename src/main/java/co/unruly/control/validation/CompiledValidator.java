@@ -0,0 +1,249 @@
+package co.unruly.control.validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A validator tree flattened into a list of steps, as built by Validators.compile().
+ * <p>
+ * Composed, conditional and error-mapping validators disappear into the step list, and each field
+ * accessor becomes a register which is evaluated at most once per validation, the first time a step
+ * needs it. Accessors are only shared when they're the same Function instance applied to the same
+ * value, so two method references to the same getter are still evaluated separately.
+ * <p>
+ * Validators this can't see into are called as they are, on the value of their register.
+ */
+final class CompiledValidator<T, E> extends SinkValidator<T, E> {
+
+    private static final Object UNSET = new Object();
+
+    private final int[] parents;
+    private final Function<Object, Object>[] accessors;
+    private final Step[] steps;
+
+    @SuppressWarnings("unchecked")
+    private CompiledValidator(int cost, List<Register> registers, List<Step> steps) {
+        super(cost);
+        this.parents = registers.stream().mapToInt(register -> register.parent).toArray();
+        this.accessors = registers.stream().map(register -> register.accessor).toArray(Function[]::new);
+        this.steps = steps.toArray(new Step[0]);
+    }
+
+    static <T, E> Validator<T, E> compile(Validator<T, E> validator) {
+        if (validator instanceof CompiledValidator) {
+            return validator;
+        }
+        Compiler compiler = new Compiler();
+        compiler.compile(validator, 0, null);
+        return new CompiledValidator<>(validator.cost(), compiler.registers, compiler.steps);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean forEachError(T item, ErrorSink<? super E> errors) {
+        ErrorSink<Object> sink = (ErrorSink<Object>) errors;
+        Frame frame = new Frame(item);
+        int next = 0;
+        while (next < steps.length) {
+            next = steps[next].execute(frame, sink, next);
+            if (next < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The register values for a single validation
+     */
+    private final class Frame {
+        private final Object[] values;
+
+        private Frame(Object item) {
+            values = new Object[parents.length];
+            Arrays.fill(values, 1, values.length, UNSET);
+            values[0] = item;
+        }
+
+        private Object get(int register) {
+            Object value = values[register];
+            if (value == UNSET) {
+                value = accessors[register].apply(get(parents[register]));
+                values[register] = value;
+            }
+            return value;
+        }
+    }
+
+    /**
+     * A step of a compiled validator, which returns the index of the next step to execute, or -1 to stop
+     */
+    private abstract static class Step {
+        abstract int execute(CompiledValidator<?, ?>.Frame frame, ErrorSink<Object> sink, int index);
+    }
+
+    /**
+     * Reports an error if a register's value fails a test
+     */
+    private static final class Check extends Step {
+        private final int register;
+        private final Predicate<Object> test;
+        private final Function<Object, Object> errorGenerator;
+        private final Mapping mapping;
+
+        private Check(int register, Predicate<Object> test, Function<Object, Object> errorGenerator, Mapping mapping) {
+            this.register = register;
+            this.test = test;
+            this.errorGenerator = errorGenerator;
+            this.mapping = mapping;
+        }
+
+        @Override
+        int execute(CompiledValidator<?, ?>.Frame frame, ErrorSink<Object> sink, int index) {
+            Object value = frame.get(register);
+            if (test.test(value)) {
+                return index + 1;
+            }
+            Object error = Mapping.apply(mapping, frame, errorGenerator.apply(value));
+            return sink.accept(error) ? index + 1 : -1;
+        }
+    }
+
+    /**
+     * Skips the steps of a conditional validator if a register's value fails its test
+     */
+    private static final class Guard extends Step {
+        private final int register;
+        private final Predicate<Object> test;
+        private final int end;
+
+        private Guard(int register, Predicate<Object> test, int end) {
+            this.register = register;
+            this.test = test;
+            this.end = end;
+        }
+
+        @Override
+        int execute(CompiledValidator<?, ?>.Frame frame, ErrorSink<Object> sink, int index) {
+            return test.test(frame.get(register)) ? index + 1 : end;
+        }
+    }
+
+    /**
+     * Runs an opaque validator on a register's value
+     */
+    private static final class Call extends Step {
+        private final int register;
+        private final Validator<Object, Object> validator;
+        private final Mapping mapping;
+
+        private Call(int register, Validator<Object, Object> validator, Mapping mapping) {
+            this.register = register;
+            this.validator = validator;
+            this.mapping = mapping;
+        }
+
+        @Override
+        int execute(CompiledValidator<?, ?>.Frame frame, ErrorSink<Object> sink, int index) {
+            ErrorSink<Object> target = mapping == null
+                ? sink
+                : error -> sink.accept(Mapping.apply(mapping, frame, error));
+            return validator.forEachError(frame.get(register), target) ? index + 1 : -1;
+        }
+    }
+
+    /**
+     * A chain of error mappers, innermost first, each applied with the value of its own register
+     */
+    private static final class Mapping {
+        private final BiFunction<Object, Object, Object> mapper;
+        private final int register;
+        private final Mapping next;
+
+        private Mapping(BiFunction<Object, Object, Object> mapper, int register, Mapping next) {
+            this.mapper = mapper;
+            this.register = register;
+            this.next = next;
+        }
+
+        private static Object apply(Mapping mapping, CompiledValidator<?, ?>.Frame frame, Object error) {
+            for (Mapping current = mapping; current != null; current = current.next) {
+                error = current.mapper.apply(frame.get(current.register), error);
+            }
+            return error;
+        }
+    }
+
+    private static final class Register {
+        private final int parent;
+        private final Function<Object, Object> accessor;
+
+        private Register(int parent, Function<Object, Object> accessor) {
+            this.parent = parent;
+            this.accessor = accessor;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Register
+                && ((Register) o).parent == parent
+                && ((Register) o).accessor == accessor;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * parent + System.identityHashCode(accessor);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final class Compiler {
+        private final List<Register> registers = new ArrayList<>();
+        private final Map<Register, Integer> registerIndices = new HashMap<>();
+        private final List<Step> steps = new ArrayList<>();
+
+        private Compiler() {
+            registers.add(new Register(-1, null));
+        }
+
+        private void compile(Validator<?, ?> validator, int register, Mapping mapping) {
+            if (validator instanceof ComposedValidator) {
+                for (Validator<?, ?> child : ((ComposedValidator<?, ?>) validator).validators) {
+                    compile(child, register, mapping);
+                }
+            } else if (validator instanceof FieldValidator) {
+                FieldValidator<?, ?, ?> field = (FieldValidator<?, ?, ?>) validator;
+                compile(field.innerValidator, registerFor(register, (Function<Object, Object>) field.accessor), mapping);
+            } else if (validator instanceof ConditionalValidator) {
+                ConditionalValidator<?, ?> conditional = (ConditionalValidator<?, ?>) validator;
+                int guard = steps.size();
+                steps.add(null);
+                compile(conditional.validator, register, mapping);
+                steps.set(guard, new Guard(register, (Predicate<Object>) conditional.test, steps.size()));
+            } else if (validator instanceof ErrorMappingValidator) {
+                ErrorMappingValidator<?, ?, ?> mapped = (ErrorMappingValidator<?, ?, ?>) validator;
+                BiFunction<Object, Object, Object> mapper = (BiFunction<Object, Object, Object>) mapped.errorMapper;
+                compile(mapped.validator, register, new Mapping(mapper, register, mapping));
+            } else if (validator instanceof PredicateValidator) {
+                PredicateValidator<?, ?> predicate = (PredicateValidator<?, ?>) validator;
+                steps.add(new Check(register, (Predicate<Object>) predicate.test, (Function<Object, Object>) predicate.errorGenerator, mapping));
+            } else {
+                steps.add(new Call(register, (Validator<Object, Object>) validator, mapping));
+            }
+        }
+
+        private int registerFor(int parent, Function<Object, Object> accessor) {
+            Register register = new Register(parent, accessor);
+            return registerIndices.computeIfAbsent(register, __ -> {
+                registers.add(register);
+                return registers.size() - 1;
+            });
+        }
+    }
+}
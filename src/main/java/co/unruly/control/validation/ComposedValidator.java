@@ -0,0 +1,43 @@
+package co.unruly.control.validation;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Reports the errors of several validators, running cheaper validators first, as built by Validators.compose().
+ */
+final class ComposedValidator<T, E> extends SinkValidator<T, E> {
+
+    final Validator<T, E>[] validators;
+
+    private ComposedValidator(Validator<T, E>[] validators, int cost) {
+        super(cost);
+        this.validators = validators;
+    }
+
+    static <T, E> ComposedValidator<T, E> of(Validator<T, E>[] validators) {
+        Validator<T, E>[] byCost = validators.clone();
+        Arrays.sort(byCost, Comparator.comparingInt(Validator::cost));
+        return new ComposedValidator<>(byCost, totalCost(byCost));
+    }
+
+    // generic arrays can't be created directly, but this one only ever holds the one Validator<T, E>
+    @SuppressWarnings("unchecked")
+    static <T, E> ComposedValidator<T, E> withCost(int cost, Validator<T, E> validator) {
+        return new ComposedValidator<>((Validator<T, E>[]) new Validator<?, ?>[] { validator }, cost);
+    }
+
+    static int totalCost(Validator<?, ?>[] validators) {
+        return (int) Math.min(Arrays.stream(validators).mapToLong(Validator::cost).sum(), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean forEachError(T item, ErrorSink<? super E> sink) {
+        for (Validator<T, E> validator : validators) {
+            if (!validator.forEachError(item, sink)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,23 @@
+package co.unruly.control.validation;
+
+import java.util.function.Predicate;
+
+/**
+ * Only validates items which pass a test, as built by Validators.onlyIf().
+ */
+final class ConditionalValidator<T, E> extends SinkValidator<T, E> {
+
+    final Predicate<T> test;
+    final Validator<T, E> validator;
+
+    ConditionalValidator(Predicate<T> test, Validator<T, E> validator) {
+        super(validator.cost());
+        this.test = test;
+        this.validator = validator;
+    }
+
+    @Override
+    public boolean forEachError(T item, ErrorSink<? super E> sink) {
+        return !test.test(item) || validator.forEachError(item, sink);
+    }
+}
@@ -0,0 +1,39 @@
+package co.unruly.control.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Collects errors from a validator until it has a given number of them. The list is only
+ * created once there's an error to put in it.
+ */
+final class ErrorCollector<E> implements Validator.ErrorSink<E> {
+
+    private final int maxErrors;
+    private List<E> errors;
+
+    ErrorCollector(int maxErrors) {
+        if (maxErrors < 1) {
+            throw new IllegalArgumentException("Must collect at least one error, but asked for " + maxErrors);
+        }
+        this.maxErrors = maxErrors;
+    }
+
+    @Override
+    public boolean accept(E error) {
+        if (errors == null) {
+            errors = new ArrayList<>(maxErrors == Integer.MAX_VALUE ? 4 : Math.min(maxErrors, 16));
+        }
+        errors.add(error);
+        return errors.size() < maxErrors;
+    }
+
+    boolean isEmpty() {
+        return errors == null;
+    }
+
+    List<E> errors() {
+        return errors == null ? Collections.emptyList() : errors;
+    }
+}
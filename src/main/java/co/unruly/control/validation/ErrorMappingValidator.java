@@ -0,0 +1,23 @@
+package co.unruly.control.validation;
+
+import java.util.function.BiFunction;
+
+/**
+ * Transforms the errors of another validator, as built by Validators.mappingErrors().
+ */
+final class ErrorMappingValidator<T, E, E1> extends SinkValidator<T, E1> {
+
+    final Validator<T, E> validator;
+    final BiFunction<T, E, E1> errorMapper;
+
+    ErrorMappingValidator(Validator<T, E> validator, BiFunction<T, E, E1> errorMapper) {
+        super(validator.cost());
+        this.validator = validator;
+        this.errorMapper = errorMapper;
+    }
+
+    @Override
+    public boolean forEachError(T item, ErrorSink<? super E1> sink) {
+        return validator.forEachError(item, error -> sink.accept(errorMapper.apply(item, error)));
+    }
+}
@@ -0,0 +1,23 @@
+package co.unruly.control.validation;
+
+import java.util.function.Function;
+
+/**
+ * Validates a value derived from each item, as built by Validators.on().
+ */
+final class FieldValidator<T, T1, E> extends SinkValidator<T, E> {
+
+    final Function<T, T1> accessor;
+    final Validator<T1, E> innerValidator;
+
+    FieldValidator(Function<T, T1> accessor, Validator<T1, E> innerValidator) {
+        super(innerValidator.cost());
+        this.accessor = accessor;
+        this.innerValidator = innerValidator;
+    }
+
+    @Override
+    public boolean forEachError(T item, ErrorSink<? super E> sink) {
+        return innerValidator.forEachError(accessor.apply(item), sink);
+    }
+}
@@ -0,0 +1,33 @@
+package co.unruly.control.validation;
+
+/**
+ * Passes errors on to another sink, remembering anything it throws, so validators which catch their
+ * inner validators' exceptions - as those built by Validators.tryTo() and tryOn() do - can tell them
+ * apart from the sink's own, and let the sink's propagate.
+ */
+final class GuardedSink<E> implements Validator.ErrorSink<E> {
+
+    private final Validator.ErrorSink<? super E> sink;
+    private RuntimeException thrown;
+
+    GuardedSink(Validator.ErrorSink<? super E> sink) {
+        this.sink = sink;
+    }
+
+    @Override
+    public boolean accept(E error) {
+        try {
+            return sink.accept(error);
+        } catch (RuntimeException ex) {
+            thrown = ex;
+            throw ex;
+        }
+    }
+
+    /**
+     * Returns whether the exception was thrown by the sink, rather than by whatever was emitting to it
+     */
+    boolean threw(Exception ex) {
+        return ex == thrown;
+    }
+}
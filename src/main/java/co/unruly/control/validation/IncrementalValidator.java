@@ -0,0 +1,216 @@
+package co.unruly.control.validation;
+
+import co.unruly.control.result.Result;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * A validator which can re-validate an item after some of its fields have changed, re-running only
+ * the rules which read those fields, as built by Validators.incremental().
+ * <p>
+ * The validator it's built from is flattened into rules: each validator composed with compose(),
+ * however deeply nested, is a rule. A rule built with on() reads only the field its accessor returns,
+ * so it's re-run when that accessor is named as changed. Any other rule might read the whole item, so
+ * it's re-run every time.
+ * <pre>
+ * {@code
+ * Function<Order, Address> address = Order::address;
+ * IncrementalValidator<Order, String> validator = Validators.incremental(compose(
+ *     on(address, addressRules),
+ *     on(Order::lines, lineRules)
+ * ));
+ *
+ * IncrementalValidator.Validation<Order, String> validation = validator.validateIncrementally(order);
+ * validation = validator.revalidate(validation, order.withAddress(newAddress), address);
+ * }
+ * </pre>
+ * Changed fields are named by the accessor instances passed to on(), so keep hold of the accessors
+ * for fields which change: two method references to the same getter are different instances.
+ */
+public final class IncrementalValidator<T, E> implements Validator<T, E> {
+
+    private static final int[] NO_RULES = new int[0];
+
+    private final Validator<T, E> validator;
+    private final Validator<T, E>[] rules;
+    private final Map<Function<?, ?>, int[]> rulesByAccessor;
+    private final int[] rulesForWholeItem;
+
+    // the rules array is only ever filled with the flattened Validator<T, E>s
+    @SuppressWarnings("unchecked")
+    IncrementalValidator(Validator<T, E> validator) {
+        List<Validator<T, E>> flattened = new ArrayList<>();
+        flatten(validator, flattened);
+
+        Map<Function<?, ?>, List<Integer>> byAccessor = new IdentityHashMap<>();
+        List<Integer> wholeItem = new ArrayList<>();
+        for (int i = 0; i < flattened.size(); i++) {
+            Validator<T, E> rule = flattened.get(i);
+            if (rule instanceof FieldValidator) {
+                byAccessor.computeIfAbsent(((FieldValidator<?, ?, ?>) rule).accessor, __ -> new ArrayList<>()).add(i);
+            } else {
+                wholeItem.add(i);
+            }
+        }
+
+        this.validator = validator;
+        this.rules = flattened.toArray((Validator<T, E>[]) new Validator<?, ?>[0]);
+        this.rulesByAccessor = new IdentityHashMap<>();
+        byAccessor.forEach((accessor, indices) -> rulesByAccessor.put(accessor, toArray(indices)));
+        this.rulesForWholeItem = toArray(wholeItem);
+    }
+
+    /**
+     * Validates the item, remembering which rules reported which errors so it can be re-validated later
+     */
+    public Validation<T, E> validateIncrementally(T item) {
+        List<E>[] errorsByRule = newErrorsByRule();
+        for (int rule = 0; rule < rules.length; rule++) {
+            errorsByRule[rule] = errorsFrom(rules[rule], item);
+        }
+        return new Validation<>(this, item, errorsByRule);
+    }
+
+    /**
+     * Validates the updated item, re-running only the rules which read the changed fields or the
+     * whole item, and keeping the errors the other rules reported for the previous item.
+     *
+     * @throws IllegalArgumentException if the previous validation came from a different validator, or
+     * if an accessor isn't one passed to on() when building this validator
+     */
+    @SafeVarargs
+    public final Validation<T, E> revalidate(Validation<T, E> previous, T updatedItem, Function<T, ?>... changedFields) {
+        if (previous.validator != this) {
+            throw new IllegalArgumentException("Can only revalidate validations made by the same validator");
+        }
+
+        // a rule is re-run once, however many of the fields it reads are named
+        boolean[] stale = new boolean[rules.length];
+        for (Function<T, ?> field : changedFields) {
+            int[] affected = rulesByAccessor.get(field);
+            if (affected == null) {
+                throw new IllegalArgumentException("No rules read the field " + field + ": is it the same accessor instance passed to on()?");
+            }
+            markStale(affected, stale);
+        }
+        markStale(rulesForWholeItem, stale);
+
+        List<E>[] errorsByRule = previous.errorsByRule.clone();
+        for (int rule = 0; rule < rules.length; rule++) {
+            if (stale[rule]) {
+                errorsByRule[rule] = errorsFrom(rules[rule], updatedItem);
+            }
+        }
+        return new Validation<>(this, updatedItem, errorsByRule);
+    }
+
+    @Override
+    public Stream<E> validate(T item) {
+        return validator.validate(item);
+    }
+
+    @Override
+    public boolean forEachError(T item, ErrorSink<? super E> sink) {
+        return validator.forEachError(item, sink);
+    }
+
+    @Override
+    public int cost() {
+        return validator.cost();
+    }
+
+    private static void markStale(int[] affected, boolean[] stale) {
+        for (int rule : affected) {
+            stale[rule] = true;
+        }
+    }
+
+    private static <T, E> List<E> errorsFrom(Validator<T, E> rule, T item) {
+        ErrorCollector<E> errors = new ErrorCollector<>(Integer.MAX_VALUE);
+        rule.forEachError(item, errors);
+        return errors.errors();
+    }
+
+    // generic arrays can't be created directly, but this one only ever holds List<E>s
+    @SuppressWarnings("unchecked")
+    private List<E>[] newErrorsByRule() {
+        return (List<E>[]) new List<?>[rules.length];
+    }
+
+    private static <T, E> void flatten(Validator<T, E> validator, List<Validator<T, E>> rules) {
+        if (validator instanceof ComposedValidator) {
+            for (Validator<T, E> child : ((ComposedValidator<T, E>) validator).validators) {
+                flatten(child, rules);
+            }
+        } else {
+            rules.add(validator);
+        }
+    }
+
+    private static int[] toArray(List<Integer> indices) {
+        return indices.isEmpty() ? NO_RULES : indices.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * The outcome of validating an item incrementally, which can be passed back to the validator to
+     * re-validate the item once it's changed.
+     */
+    public static final class Validation<T, E> {
+        private final IncrementalValidator<T, E> validator;
+        private final T item;
+        private final List<E>[] errorsByRule;
+
+        private Validation(IncrementalValidator<T, E> validator, T item, List<E>[] errorsByRule) {
+            this.validator = validator;
+            this.item = item;
+            this.errorsByRule = errorsByRule;
+        }
+
+        public T item() {
+            return item;
+        }
+
+        public boolean isValid() {
+            for (List<E> errors : errorsByRule) {
+                if (!errors.isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns the item's errors, in the order the validator would have reported them
+         */
+        public List<E> errors() {
+            List<E> errors = new ArrayList<>();
+            for (List<E> ruleErrors : errorsByRule) {
+                errors.addAll(ruleErrors);
+            }
+            return Collections.unmodifiableList(errors);
+        }
+
+        /**
+         * Returns the Result the validator would have returned for the item
+         */
+        public Result<T, FailedValidation<T, E>> toResult() {
+            return isValid()
+                ? Result.success(item)
+                : Result.failure(new FailedValidation<>(item, errors()));
+        }
+
+        @Override
+        public String toString() {
+            return "Validation{" +
+                    "item=" + item +
+                    ", errors=" + errors() +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package co.unruly.control.validation;
+
+import co.unruly.control.validation.Validator.ErrorSink;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Runs independent branches of a validation concurrently, then passes their errors to a sink
+ * branch by branch, in the order the branches were provided, so the errors come out in the same
+ * order as if the branches had been run in turn.
+ * <p>
+ * The first branch runs on the calling thread while the others are handed to the executor. When the
+ * calling thread needs a branch's errors and the executor hasn't started it yet, the calling thread runs
+ * it instead, so it never blocks on queued work: nesting parallel validators on a bounded executor can't
+ * deadlock, and a rejected branch just runs on the calling thread. Once the sink asks to stop, branches
+ * which haven't started yet are cancelled.
+ * <p>
+ * Batches of items are validated the same way, in contiguous chunks.
+ */
+final class ParallelValidation {
+
+    private ParallelValidation() {
+    }
+
+    static <E> boolean forEachError(List<Consumer<ErrorSink<E>>> branches, Executor executor, ErrorSink<? super E> sink) {
+        if (branches.isEmpty()) {
+            return true;
+        }
+
+        List<Forked<List<E>>> pending = new ArrayList<>(branches.size());
+        for (int i = 1; i < branches.size(); i++) {
+            Consumer<ErrorSink<E>> branch = branches.get(i);
+            pending.add(Forked.on(executor, () -> errorsFrom(branch)));
+        }
+
+        try {
+            if (!forward(errorsFrom(branches.get(0)), sink)) {
+                return false;
+            }
+            for (Forked<List<E>> branch : pending) {
+                if (!forward(branch.join(), sink)) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            for (Forked<List<E>> branch : pending) {
+                branch.cancel();
+            }
+        }
+    }
+
+    /**
+     * Validates a batch of items in chunks, concurrently, then merges the chunks' reports in order
+     */
+    static <T, E> ValidationReport<T, E> validateAll(Validator<T, E> validator, List<T> items, Executor executor) {
+        List<List<T>> chunks = chunk(items);
+        List<Forked<ReportBuilder<T, E>>> pending = new ArrayList<>(chunks.size());
+        int firstIndex = chunks.get(0).size();
+        for (int i = 1; i < chunks.size(); i++) {
+            List<T> chunk = chunks.get(i);
+            int chunkStart = firstIndex;
+            pending.add(Forked.on(executor, () -> new ReportBuilder<T, E>().validate(validator, chunk, chunkStart)));
+            firstIndex += chunk.size();
+        }
+
+        try {
+            ReportBuilder<T, E> report = new ReportBuilder<T, E>().validate(validator, chunks.get(0), 0);
+            for (Forked<ReportBuilder<T, E>> chunk : pending) {
+                report.append(chunk.join());
+            }
+            return report.build(items);
+        } finally {
+            for (Forked<ReportBuilder<T, E>> chunk : pending) {
+                chunk.cancel();
+            }
+        }
+    }
+
+    /**
+     * Splits the elements into roughly as many contiguous chunks as there are processors to run them on
+     */
+    static <T> List<List<T>> chunk(List<T> elements) {
+        int chunks = Math.max(1, Math.min(elements.size(), Runtime.getRuntime().availableProcessors() * 4));
+        List<List<T>> chunked = new ArrayList<>(chunks);
+        for (int i = 0; i < chunks; i++) {
+            chunked.add(elements.subList(i * elements.size() / chunks, (i + 1) * elements.size() / chunks));
+        }
+        return chunked;
+    }
+
+    private static <E> List<E> errorsFrom(Consumer<ErrorSink<E>> branch) {
+        ErrorCollector<E> errors = new ErrorCollector<>(Integer.MAX_VALUE);
+        branch.accept(errors);
+        return errors.errors();
+    }
+
+    private static <E> boolean forward(List<E> errors, ErrorSink<? super E> sink) {
+        for (E error : errors) {
+            if (!sink.accept(error)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A piece of work handed to an executor, which is run by whichever comes first: the executor, or
+     * the thread which needs its outcome
+     */
+    private static final class Forked<R> implements Runnable {
+        private final Supplier<R> work;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CompletableFuture<R> outcome = new CompletableFuture<>();
+
+        private Forked(Supplier<R> work) {
+            this.work = work;
+        }
+
+        static <R> Forked<R> on(Executor executor, Supplier<R> work) {
+            Forked<R> forked = new Forked<>(work);
+            try {
+                executor.execute(forked);
+            } catch (RejectedExecutionException ex) {
+                // left unclaimed, so join() runs it instead
+            }
+            return forked;
+        }
+
+        @Override
+        public void run() {
+            if (claimed.compareAndSet(false, true)) {
+                try {
+                    outcome.complete(work.get());
+                } catch (RuntimeException | Error ex) {
+                    outcome.completeExceptionally(ex);
+                }
+            }
+        }
+
+        /**
+         * Returns the outcome of the work, running it on this thread if it hasn't been started yet
+         */
+        R join() {
+            run();
+            try {
+                return outcome.join();
+            } catch (CompletionException ex) {
+                Throwable cause = ex.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw ex;
+            }
+        }
+
+        /**
+         * Stops the work from starting, if it hasn't already
+         */
+        void cancel() {
+            claimed.set(true);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package co.unruly.control.validation;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Reports an error if an item fails a test, as built by Validators.acceptIf() and rejectIf().
+ */
+final class PredicateValidator<T, E> extends SinkValidator<T, E> {
+
+    final Predicate<T> test;
+    final Function<T, E> errorGenerator;
+
+    PredicateValidator(Predicate<T> test, Function<T, E> errorGenerator) {
+        super(0);
+        this.test = test;
+        this.errorGenerator = errorGenerator;
+    }
+
+    @Override
+    public boolean forEachError(T item, ErrorSink<? super E> sink) {
+        return test.test(item) || sink.accept(errorGenerator.apply(item));
+    }
+}
@@ -0,0 +1,119 @@
+package co.unruly.control.validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Builds a {@link ValidationReport} for a contiguous run of items, interning each distinct error
+ * as an int code so that failures are recorded in primitive arrays rather than objects.
+ * <p>
+ * Builders for neighbouring runs of items can be merged, so a batch can be validated in chunks.
+ */
+final class ReportBuilder<T, E> implements Validator.ErrorSink<E> {
+
+    private final Map<E, Integer> codes = new HashMap<>();
+    private final List<E> distinctErrors = new ArrayList<>();
+
+    private int[] failedIndexes = new int[16];
+    private int[] errorOffsets = new int[16];
+    private int[] errorCodes = new int[16];
+    private int failureCount;
+    private int errorCount;
+
+    /**
+     * Returns the items as a list which can be indexed cheaply, copying them only if necessary
+     */
+    @SuppressWarnings("unchecked")
+    static <T> List<T> indexable(Collection<T> items) {
+        return items instanceof List && items instanceof RandomAccess
+            ? (List<T>) items
+            : new ArrayList<>(items);
+    }
+
+    /**
+     * Validates the given items, which are numbered from the given index
+     */
+    ReportBuilder<T, E> validate(Validator<T, E> validator, List<T> items, int firstIndex) {
+        for (int i = 0; i < items.size(); i++) {
+            int errorsBefore = errorCount;
+            validator.forEachError(items.get(i), this);
+            if (errorCount > errorsBefore) {
+                addFailure(firstIndex + i, errorsBefore);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public boolean accept(E error) {
+        addErrorCode(codeFor(error));
+        return true;
+    }
+
+    /**
+     * Appends the failures recorded by another builder, whose items come after this one's
+     */
+    void append(ReportBuilder<T, E> other) {
+        int[] recoded = new int[other.distinctErrors.size()];
+        for (int code = 0; code < recoded.length; code++) {
+            recoded[code] = codeFor(other.distinctErrors.get(code));
+        }
+        for (int failure = 0; failure < other.failureCount; failure++) {
+            int errorsBefore = errorCount;
+            int end = failure + 1 < other.failureCount ? other.errorOffsets[failure + 1] : other.errorCount;
+            for (int error = other.errorOffsets[failure]; error < end; error++) {
+                addErrorCode(recoded[other.errorCodes[error]]);
+            }
+            addFailure(other.failedIndexes[failure], errorsBefore);
+        }
+    }
+
+    ValidationReport<T, E> build(List<T> items) {
+        int[] offsets = Arrays.copyOf(errorOffsets, failureCount + 1);
+        offsets[failureCount] = errorCount;
+        int[] occurrences = new int[distinctErrors.size()];
+        for (int error = 0; error < errorCount; error++) {
+            occurrences[errorCodes[error]]++;
+        }
+        return new ValidationReport<>(
+            items,
+            Arrays.copyOf(failedIndexes, failureCount),
+            offsets,
+            Arrays.copyOf(errorCodes, errorCount),
+            new ArrayList<>(distinctErrors),
+            occurrences
+        );
+    }
+
+    private int codeFor(E error) {
+        Integer code = codes.get(error);
+        if (code == null) {
+            code = distinctErrors.size();
+            codes.put(error, code);
+            distinctErrors.add(error);
+        }
+        return code;
+    }
+
+    private void addErrorCode(int code) {
+        if (errorCount == errorCodes.length) {
+            errorCodes = Arrays.copyOf(errorCodes, errorCodes.length * 2);
+        }
+        errorCodes[errorCount++] = code;
+    }
+
+    private void addFailure(int index, int firstError) {
+        if (failureCount == failedIndexes.length) {
+            failedIndexes = Arrays.copyOf(failedIndexes, failedIndexes.length * 2);
+            errorOffsets = Arrays.copyOf(errorOffsets, errorOffsets.length * 2);
+        }
+        failedIndexes[failureCount] = index;
+        errorOffsets[failureCount] = firstError;
+        failureCount++;
+    }
+}
@@ -0,0 +1,40 @@
+package co.unruly.control.validation;
+
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Base class for the validators built by Validators, which push their errors to a sink rather
+ * than building a stream of them.
+ */
+abstract class SinkValidator<T, E> implements Validator<T, E> {
+
+    private final int cost;
+
+    SinkValidator(int cost) {
+        this.cost = cost;
+    }
+
+    /**
+     * Returns a stream of the item's errors, which are only found once the stream's terminal operation
+     * starts. They're found all at once, so short-circuiting operations on the stream don't stop the
+     * validator early: isValid() and firstErrors() do.
+     */
+    @Override
+    public Stream<E> validate(T item) {
+        return StreamSupport.stream(() -> {
+            ErrorCollector<E> errors = new ErrorCollector<>(Integer.MAX_VALUE);
+            forEachError(item, errors);
+            return errors.errors().spliterator();
+        }, Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED, false);
+    }
+
+    @Override
+    public abstract boolean forEachError(T item, ErrorSink<? super E> sink);
+
+    @Override
+    public int cost() {
+        return cost;
+    }
+}
@@ -0,0 +1,166 @@
+package co.unruly.control.validation;
+
+import co.unruly.control.result.Result;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Validates items pulled from a source which may be too large to hold in memory, such as the
+ * lines of a file or messages from a queue, passing valid items to one sink and failures to another.
+ * <p>
+ * Items are only pulled from the source once there's room to validate them, so memory use is bounded
+ * by the number of items in flight rather than by the size of the source. By default items are
+ * validated one at a time on the calling thread; they can instead be validated concurrently on an
+ * executor, up to a fixed number in flight. Either way, sinks are called on the calling thread, in the
+ * order the items came from the source.
+ * <pre>
+ * {@code
+ * StreamingValidator.Summary summary = Validators.streaming(recordValidator)
+ *     .inFlight(64, executor)
+ *     .keepingFirstErrors(10)
+ *     .validate(records, writer::write, rejects::add);
+ * }
+ * </pre>
+ * Configurations are immutable: each method returns a new configuration.
+ */
+public final class StreamingValidator<T, E> {
+
+    private final Validator<T, E> validator;
+    private final int maxInFlight;
+    private final Executor executor;
+    private final int maxErrors;
+
+    private StreamingValidator(Validator<T, E> validator, int maxInFlight, Executor executor, int maxErrors) {
+        this.validator = validator;
+        this.maxInFlight = maxInFlight;
+        this.executor = executor;
+        this.maxErrors = maxErrors;
+    }
+
+    static <T, E> StreamingValidator<T, E> of(Validator<T, E> validator) {
+        return new StreamingValidator<>(validator, 1, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Validates up to the given number of items at once on the provided executor
+     */
+    public StreamingValidator<T, E> inFlight(int maxInFlight, Executor executor) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("Must allow at least one item in flight, but asked for " + maxInFlight);
+        }
+        return new StreamingValidator<>(validator, maxInFlight, executor, maxErrors);
+    }
+
+    /**
+     * Stops validating each item once it has the given number of errors, bounding the size of each failure
+     */
+    public StreamingValidator<T, E> keepingFirstErrors(int maxErrors) {
+        if (maxErrors < 1) {
+            throw new IllegalArgumentException("Must keep at least one error, but asked for " + maxErrors);
+        }
+        return new StreamingValidator<>(validator, maxInFlight, executor, maxErrors);
+    }
+
+    /**
+     * Validates each item from the stream, without closing it
+     */
+    public Summary validate(Stream<T> items, Consumer<? super T> onValid, Consumer<? super FailedValidation<T, E>> onInvalid) {
+        return validate(items.iterator(), onValid, onInvalid);
+    }
+
+    public Summary validate(Iterable<T> items, Consumer<? super T> onValid, Consumer<? super FailedValidation<T, E>> onInvalid) {
+        return validate(items.iterator(), onValid, onInvalid);
+    }
+
+    public Summary validate(Iterator<T> items, Consumer<? super T> onValid, Consumer<? super FailedValidation<T, E>> onInvalid) {
+        Summary summary = new Summary();
+        if (executor == null) {
+            while (items.hasNext()) {
+                summary.emit(validator.applyFirst(items.next(), maxErrors), onValid, onInvalid);
+            }
+            return summary;
+        }
+
+        ArrayDeque<CompletableFuture<Result<T, FailedValidation<T, E>>>> inFlight = new ArrayDeque<>(maxInFlight);
+        try {
+            while (items.hasNext()) {
+                if (inFlight.size() == maxInFlight) {
+                    summary.emit(join(inFlight.poll()), onValid, onInvalid);
+                }
+                T item = items.next();
+                inFlight.add(CompletableFuture.supplyAsync(() -> validator.applyFirst(item, maxErrors), executor));
+            }
+            while (!inFlight.isEmpty()) {
+                summary.emit(join(inFlight.poll()), onValid, onInvalid);
+            }
+            return summary;
+        } finally {
+            for (CompletableFuture<?> pending : inFlight) {
+                pending.cancel(false);
+            }
+        }
+    }
+
+    private static <R> R join(CompletableFuture<R> validation) {
+        try {
+            return validation.join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Counts of the items which passed and failed validation
+     */
+    public static final class Summary {
+        private long validCount;
+        private long invalidCount;
+
+        private Summary() {
+        }
+
+        public long validCount() {
+            return validCount;
+        }
+
+        public long invalidCount() {
+            return invalidCount;
+        }
+
+        private <T, E> void emit(Result<T, FailedValidation<T, E>> result, Consumer<? super T> onValid, Consumer<? super FailedValidation<T, E>> onInvalid) {
+            result.either(
+                valid -> {
+                    validCount++;
+                    onValid.accept(valid);
+                    return null;
+                },
+                invalid -> {
+                    invalidCount++;
+                    onInvalid.accept(invalid);
+                    return null;
+                }
+            );
+        }
+
+        @Override
+        public String toString() {
+            return "Summary{" +
+                    "valid=" + validCount +
+                    ", invalid=" + invalidCount +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package co.unruly.control.validation;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * The outcome of validating a batch of items with Validator.validateAll(), stored column by column
+ * in primitive arrays rather than as a Result per item.
+ * <p>
+ * Failures are numbered in the order of the items which failed. Each failure records the index
+ * of its item in the batch, and its errors as codes: each distinct error (by equals()) found in
+ * the batch is stored once, and its code is its position in {@link #distinctErrors()}.
+ * FailedValidations are only created when asked for.
+ * <pre>
+ * {@code
+ * ValidationReport<Record, String> report = validator.validateAllInParallel(records);
+ * for (int failure = 0; failure < report.failureCount(); failure++) {
+ *     log.warn("Record {} has {} errors", report.failedIndex(failure), report.errorCount(failure));
+ * }
+ * }
+ * </pre>
+ *
+ * @param <T> the type of the items validated
+ * @param <E> the type of the errors found
+ */
+public final class ValidationReport<T, E> {
+
+    private final List<T> items;
+    private final int[] failedIndexes;
+    private final int[] errorOffsets;
+    private final int[] errorCodes;
+    private final List<E> distinctErrors;
+    private final int[] occurrences;
+
+    ValidationReport(List<T> items, int[] failedIndexes, int[] errorOffsets, int[] errorCodes, List<E> distinctErrors, int[] occurrences) {
+        this.items = items;
+        this.failedIndexes = failedIndexes;
+        this.errorOffsets = errorOffsets;
+        this.errorCodes = errorCodes;
+        this.distinctErrors = Collections.unmodifiableList(distinctErrors);
+        this.occurrences = occurrences;
+    }
+
+    /**
+     * Returns the number of items validated
+     */
+    public int itemCount() {
+        return items.size();
+    }
+
+    /**
+     * Returns the number of items which failed validation
+     */
+    public int failureCount() {
+        return failedIndexes.length;
+    }
+
+    public boolean allValid() {
+        return failedIndexes.length == 0;
+    }
+
+    /**
+     * Returns whether the item at the given index in the batch passed validation
+     */
+    public boolean isValid(int itemIndex) {
+        if (itemIndex < 0 || itemIndex >= items.size()) {
+            throw new IndexOutOfBoundsException("No item " + itemIndex + " in a batch of " + items.size());
+        }
+        return Arrays.binarySearch(failedIndexes, itemIndex) < 0;
+    }
+
+    /**
+     * Returns the index in the batch of the item which failed
+     */
+    public int failedIndex(int failure) {
+        return failedIndexes[failure];
+    }
+
+    /**
+     * Returns the indexes in the batch of all the items which failed, in order
+     */
+    public IntStream failedIndexes() {
+        return Arrays.stream(failedIndexes);
+    }
+
+    /**
+     * Returns the number of errors for the failure
+     */
+    public int errorCount(int failure) {
+        return errorOffsets[failure + 1] - errorOffsets[failure];
+    }
+
+    /**
+     * Returns the code of one of the failure's errors
+     */
+    public int errorCode(int failure, int error) {
+        if (error < 0 || error >= errorCount(failure)) {
+            throw new IndexOutOfBoundsException("Failure " + failure + " has no error " + error);
+        }
+        return errorCodes[errorOffsets[failure] + error];
+    }
+
+    /**
+     * Returns one of the failure's errors
+     */
+    public E error(int failure, int error) {
+        return distinctErrors.get(errorCode(failure, error));
+    }
+
+    /**
+     * Returns each distinct error found in the batch, in the order they were first found, so that
+     * an error's code is its index in this list
+     */
+    public List<E> distinctErrors() {
+        return distinctErrors;
+    }
+
+    /**
+     * Returns how many times the error with the given code was found in the batch
+     */
+    public int occurrences(int errorCode) {
+        return occurrences[errorCode];
+    }
+
+    /**
+     * Creates a FailedValidation for the failure, as Validator.apply() would have returned for its item
+     */
+    public FailedValidation<T, E> failure(int failure) {
+        int offset = errorOffsets[failure];
+        int count = errorCount(failure);
+        List<E> errors = new AbstractList<E>() {
+            @Override
+            public E get(int index) {
+                if (index < 0 || index >= count) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+                }
+                return distinctErrors.get(errorCodes[offset + index]);
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+        return new FailedValidation<>(items.get(failedIndexes[failure]), errors);
+    }
+
+    /**
+     * Creates a FailedValidation for each failure, in order, as they're consumed
+     */
+    public Stream<FailedValidation<T, E>> failures() {
+        return IntStream.range(0, failedIndexes.length).mapToObj(this::failure);
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationReport{" +
+                "items=" + items.size() +
+                ", failures=" + failedIndexes.length +
+                ", distinctErrors=" + distinctErrors +
+                '}';
+    }
+}
@@ -2,22 +2,113 @@ package co.unruly.control.validation;
 
 import co.unruly.control.result.Result;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
-import static java.util.stream.Collectors.toList;
-
+/**
+ * Validates items, yielding a stream of errors for each: an item is valid if it has no errors.
+ * <p>
+ * As well as applying a validator to get a Result with all the errors, validators can be asked
+ * whether an item is valid at all, or for its first few errors, in which case they stop as soon
+ * as they have enough. Validators built by Validators push their errors to an {@link ErrorSink}
+ * instead of building streams, so checking a valid item with isValid() doesn't allocate.
+ */
 @FunctionalInterface
 public interface Validator<T, E> extends Function<T, Result<T, FailedValidation<T, E>>> {
 
     default Result<T, FailedValidation<T, E>> apply(T item) {
-        List<E> errors = validate(item).collect(toList());
+        return applyFirst(item, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Validates the item, stopping once the given number of errors have been found, and returns
+     * a success of the item if there were none, or a failure with the errors found otherwise.
+     */
+    default Result<T, FailedValidation<T, E>> applyFirst(T item, int maxErrors) {
+        ErrorCollector<E> errors = new ErrorCollector<>(maxErrors);
+        forEachError(item, errors);
         return errors.isEmpty()
             ? Result.success(item)
-            : Result.failure(new FailedValidation<T, E>(item, errors));
+            : Result.failure(new FailedValidation<T, E>(item, errors.errors()));
+    }
+
+    /**
+     * Returns whether the item is valid, stopping at the first error
+     */
+    default boolean isValid(T item) {
+        return forEachError(item, __ -> false);
+    }
+
+    /**
+     * Returns up to the given number of errors for the item, in the order they're found
+     */
+    default List<E> firstErrors(T item, int maxErrors) {
+        ErrorCollector<E> errors = new ErrorCollector<>(maxErrors);
+        forEachError(item, errors);
+        return errors.errors();
+    }
+
+    /**
+     * Validates each item in the batch, recording the failures in a compact report rather than
+     * creating a Result per item. The batch is held by the report, copied if it isn't a random-access
+     * List, so shouldn't be modified while the report's in use.
+     */
+    default ValidationReport<T, E> validateAll(Collection<T> items) {
+        List<T> batch = ReportBuilder.indexable(items);
+        return new ReportBuilder<T, E>().validate(this, batch, 0).build(batch);
+    }
+
+    /**
+     * Validates the batch as validateAll() does, but in chunks run concurrently on the common ForkJoinPool
+     */
+    default ValidationReport<T, E> validateAllInParallel(Collection<T> items) {
+        return validateAllInParallel(items, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Validates the batch as validateAll() does, but in chunks run concurrently on the provided executor
+     */
+    default ValidationReport<T, E> validateAllInParallel(Collection<T> items, Executor executor) {
+        return ParallelValidation.validateAll(this, ReportBuilder.indexable(items), executor);
     }
 
     Stream<E> validate(T item);
 
+    /**
+     * Passes each error for the item to the sink, in turn, until the sink asks to stop.
+     * Returns false if the sink asked to stop, and true otherwise.
+     */
+    default boolean forEachError(T item, ErrorSink<? super E> sink) {
+        Spliterator<E> errors = validate(item).spliterator();
+        boolean[] carryOn = { true };
+        while (carryOn[0] && errors.tryAdvance(error -> carryOn[0] = sink.accept(error))) {
+        }
+        return carryOn[0];
+    }
+
+    /**
+     * A hint as to how expensive this validator is to run, relative to others: composed validators
+     * run cheaper validators first. Validators are assumed to be cheap unless set otherwise with
+     * Validators.withCost().
+     */
+    default int cost() {
+        return 0;
+    }
+
+    /**
+     * Receives errors from a validator, one at a time
+     */
+    @FunctionalInterface
+    interface ErrorSink<E> {
+
+        /**
+         * Receives an error, returning whether the validator should carry on looking for more
+         */
+        boolean accept(E error);
+    }
 }
@@ -1,17 +1,18 @@
 package co.unruly.control.validation;
 
 
-import co.unruly.control.Optionals;
 import co.unruly.control.ThrowingLambdas.ThrowingFunction;
 import co.unruly.control.result.Result;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import static co.unruly.control.result.Result.failure;
 import static co.unruly.control.result.Result.success;
@@ -20,9 +21,80 @@ import static co.unruly.control.result.Transformers.recover;
 
 public interface Validators {
 
+    /**
+     * Composes validators into one which reports all their errors. Validators are run in the order
+     * provided, except that those with a higher cost hint are run after cheaper ones.
+     */
     @SafeVarargs
     public static <T, E> Validator<T, E> compose(Validator<T, E>... validators) {
-        return t -> Arrays.stream(validators).flatMap(v -> v.validate(t));
+        return ComposedValidator.of(validators);
+    }
+
+    /**
+     * Composes validators into one which runs them concurrently on the common ForkJoinPool, and reports
+     * their errors in the same order compose() would.
+     */
+    @SafeVarargs
+    public static <T, E> Validator<T, E> composeInParallel(Validator<T, E>... validators) {
+        return composeInParallel(ForkJoinPool.commonPool(), validators);
+    }
+
+    /**
+     * Composes validators into one which runs them concurrently on the provided executor, and reports
+     * their errors in the same order compose() would.
+     */
+    @SafeVarargs
+    public static <T, E> Validator<T, E> composeInParallel(Executor executor, Validator<T, E>... validators) {
+        Validator<T, E>[] byCost = ComposedValidator.of(validators).validators;
+        return new SinkValidator<T, E>(ComposedValidator.totalCost(byCost)) {
+            @Override
+            public boolean forEachError(T item, ErrorSink<? super E> sink) {
+                List<Consumer<ErrorSink<E>>> branches = new ArrayList<>(byCost.length);
+                for (Validator<T, E> validator : byCost) {
+                    branches.add(branchSink -> validator.forEachError(item, branchSink));
+                }
+                return ParallelValidation.forEachError(branches, executor, sink);
+            }
+        };
+    }
+
+    /**
+     * Compiles a validator into an equivalent one which flattens nested compose(), onlyIf(), mappingErrors()
+     * and on() validators into a single list of checks, and evaluates each accessor passed to on() at most
+     * once per validation, however many validators share it.
+     * <p>
+     * Accessors are shared only when the same Function instance is passed to on() more than once, so hold
+     * on to accessors which are expensive to evaluate and reuse them. Accessor results are cached for a
+     * single validation only, so accessors should return the same value each time they're applied to the
+     * same item.
+     */
+    public static <T, E> Validator<T, E> compile(Validator<T, E> validator) {
+        return CompiledValidator.compile(validator);
+    }
+
+    /**
+     * Builds a validator which can re-validate an item after some of its fields have changed, re-running
+     * only the composed validators which read those fields.
+     * @see IncrementalValidator
+     */
+    public static <T, E> IncrementalValidator<T, E> incremental(Validator<T, E> validator) {
+        return new IncrementalValidator<>(validator);
+    }
+
+    /**
+     * Builds a stage which validates items from a source too large to hold in memory, passing valid items
+     * and failures to separate sinks
+     * @see StreamingValidator
+     */
+    public static <T, E> StreamingValidator<T, E> streaming(Validator<T, E> validator) {
+        return StreamingValidator.of(validator);
+    }
+
+    /**
+     * Marks a validator with a cost hint, so composed validators run it after cheaper ones
+     */
+    public static <T, E> Validator<T, E> withCost(int cost, Validator<T, E> validator) {
+        return ComposedValidator.withCost(cost, validator);
     }
 
     public static <T, E> Validator<T, E> rejectIf(Predicate<T> test, E error) {
@@ -38,45 +110,111 @@ public interface Validators {
     }
 
     public static <T, E> Validator<T, E> acceptIf(Predicate<T> test, Function<T, E> errorGenerator) {
-        return t -> test.test(t) ? Stream.empty() : Stream.of(errorGenerator.apply(t));
+        return new PredicateValidator<>(test, errorGenerator);
     }
 
     public static <T, E> Validator<T, E> firstOf(Validator<T, E> validator) {
-        return t -> Optionals.stream(validator.validate(t).findFirst());
+        return new SinkValidator<T, E>(validator.cost()) {
+            @Override
+            public boolean forEachError(T item, ErrorSink<? super E> sink) {
+                boolean[] carryOn = { true };
+                validator.forEachError(item, error -> {
+                    carryOn[0] = sink.accept(error);
+                    return false;
+                });
+                return carryOn[0];
+            }
+        };
     }
 
     public static <T, E> Validator<T, E> onlyIf(Predicate<T> test, Validator<T, E> validator) {
-        return t -> test.test(t) ? validator.validate(t) : Stream.empty();
+        return new ConditionalValidator<>(test, validator);
     }
 
     public static <T, E, E1> Validator<T, E1> mappingErrors(Validator<T, E> validator, BiFunction<T, E, E1> errorMapper) {
-        return t -> validator.validate(t).map(e -> errorMapper.apply(t, e));
+        return new ErrorMappingValidator<>(validator, errorMapper);
     }
 
     public static <T, T1, E> Validator<T, E> on(Function<T, T1> accessor, Validator<T1, E> innerValidator) {
-        return t -> innerValidator.validate(accessor.apply(t));
+        return new FieldValidator<>(accessor, innerValidator);
     }
 
     public static <T, T1, E, X extends Exception> Validator<T, E> tryOn(ThrowingFunction<T, T1, X> accessor, Function<Exception, E> onException, Validator<T1, E> innerValidator) {
-        return t -> {
-            try {
-                return innerValidator.validate(accessor.apply(t));
-            } catch (Exception e) {
-                return Stream.of(onException.apply(e));
+        return new SinkValidator<T, E>(innerValidator.cost()) {
+            @Override
+            public boolean forEachError(T item, ErrorSink<? super E> sink) {
+                GuardedSink<E> guarded = new GuardedSink<>(sink);
+                try {
+                    return innerValidator.forEachError(accessor.apply(item), guarded);
+                } catch (Exception ex) {
+                    if (guarded.threw(ex)) {
+                        throw (RuntimeException) ex;
+                    }
+                    return sink.accept(onException.apply(ex));
+                }
             }
         };
     }
 
     public static <T, T1, E> Validator<T, E> onEach(Function<T, Iterable<T1>> iterator, Validator<T1, E> innerValidator) {
-        return t -> StreamSupport.stream(iterator.apply(t).spliterator(), false).flatMap(innerValidator::validate);
+        return new SinkValidator<T, E>(innerValidator.cost()) {
+            @Override
+            public boolean forEachError(T item, ErrorSink<? super E> sink) {
+                for (T1 element : iterator.apply(item)) {
+                    if (!innerValidator.forEachError(element, sink)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Validates each of the elements, spreading them across the common ForkJoinPool, and reports
+     * their errors in the same order onEach() would.
+     */
+    public static <T, T1, E> Validator<T, E> onEachInParallel(Function<T, Iterable<T1>> iterator, Validator<T1, E> innerValidator) {
+        return onEachInParallel(iterator, innerValidator, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Validates each of the elements, spreading them across the provided executor, and reports
+     * their errors in the same order onEach() would.
+     */
+    public static <T, T1, E> Validator<T, E> onEachInParallel(Function<T, Iterable<T1>> iterator, Validator<T1, E> innerValidator, Executor executor) {
+        return new SinkValidator<T, E>(innerValidator.cost()) {
+            @Override
+            public boolean forEachError(T item, ErrorSink<? super E> sink) {
+                List<T1> elements = new ArrayList<>();
+                iterator.apply(item).forEach(elements::add);
+
+                List<Consumer<ErrorSink<E>>> branches = new ArrayList<>();
+                for (List<T1> chunk : ParallelValidation.chunk(elements)) {
+                    branches.add(branchSink -> {
+                        for (T1 element : chunk) {
+                            innerValidator.forEachError(element, branchSink);
+                        }
+                    });
+                }
+                return ParallelValidation.forEachError(branches, executor, sink);
+            }
+        };
     }
 
     public static <T, E> Validator<T, E> tryTo(Validator<T, E> validatorWhichThrowsRuntimeExceptions, Function<RuntimeException, E> errorMapper) {
-        return t -> {
-            try {
-                return validatorWhichThrowsRuntimeExceptions.validate(t);
-            } catch (RuntimeException ex) {
-                return Stream.of(errorMapper.apply(ex));
+        return new SinkValidator<T, E>(validatorWhichThrowsRuntimeExceptions.cost()) {
+            @Override
+            public boolean forEachError(T item, ErrorSink<? super E> sink) {
+                GuardedSink<E> guarded = new GuardedSink<>(sink);
+                try {
+                    return validatorWhichThrowsRuntimeExceptions.forEachError(item, guarded);
+                } catch (RuntimeException ex) {
+                    if (guarded.threw(ex)) {
+                        throw ex;
+                    }
+                    return sink.accept(errorMapper.apply(ex));
+                }
             }
         };
     }
@@ -0,0 +1,143 @@
+package co.unruly.control;
+
+import org.junit.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static co.unruly.control.ExpiringLazy.Holding.WEAKLY;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ExpiringLazyTest {
+
+    private final TestClock clock = new TestClock();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final ExpiringLazy<Integer> lazy = new ExpiringLazy<>(calls::incrementAndGet, Duration.ofSeconds(10))
+        .withClock(clock);
+
+    @Test
+    public void recalculatesValueOnceExpired() {
+        assertThat(calls.get(), is(0));
+        assertThat(lazy.get(), is(1));
+
+        clock.advance(Duration.ofSeconds(9));
+        assertThat(lazy.get(), is(1));
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(lazy.get(), is(2));
+        assertThat(lazy.get(), is(2));
+    }
+
+    @Test
+    public void recalculatesValueOnceInvalidated() {
+        assertThat(lazy.get(), is(1));
+
+        lazy.invalidate();
+
+        assertThat(lazy.get(), is(2));
+    }
+
+    @Test
+    public void servesStaleValueWhileRefreshingInBackground() {
+        List<Runnable> pendingRefreshes = new ArrayList<>();
+        ExpiringLazy<Integer> refreshing = lazy.refreshingOn(pendingRefreshes::add);
+
+        assertThat(refreshing.get(), is(1));
+        clock.advance(Duration.ofSeconds(15));
+
+        assertThat(refreshing.get(), is(1));
+        assertThat(refreshing.get(), is(1));
+        assertThat(pendingRefreshes.size(), is(1));
+
+        pendingRefreshes.get(0).run();
+
+        assertThat(refreshing.get(), is(2));
+        assertThat(calls.get(), is(2));
+    }
+
+    @Test
+    public void keepsStaleValueIfBackgroundRefreshFails() {
+        List<Runnable> pendingRefreshes = new ArrayList<>();
+        ExpiringLazy<Integer> flaky = new ExpiringLazy<>(() -> {
+            if (calls.incrementAndGet() == 2) {
+                throw new IllegalStateException("backend down");
+            }
+            return calls.get();
+        }, Duration.ofSeconds(10)).withClock(clock).refreshingOn(pendingRefreshes::add);
+
+        assertThat(flaky.get(), is(1));
+        clock.advance(Duration.ofSeconds(15));
+        assertThat(flaky.get(), is(1));
+        pendingRefreshes.get(0).run();
+
+        assertThat(flaky.get(), is(1));
+        assertThat(flaky.lastRefreshFailure().map(Exception::getMessage), is(Optional.of("backend down")));
+        pendingRefreshes.get(1).run();
+        assertThat(flaky.get(), is(3));
+        assertThat(flaky.lastRefreshFailure(), is(Optional.empty()));
+    }
+
+    @Test
+    public void discardsBackgroundRefreshesWhichFinishAfterAnInvalidation() {
+        List<Runnable> pendingRefreshes = new ArrayList<>();
+        ExpiringLazy<Integer> refreshing = lazy.refreshingOn(pendingRefreshes::add);
+
+        assertThat(refreshing.get(), is(1));
+        clock.advance(Duration.ofSeconds(15));
+        assertThat(refreshing.get(), is(1));
+
+        refreshing.invalidate();
+        assertThat(refreshing.get(), is(2));
+        pendingRefreshes.get(0).run();
+
+        assertThat(calls.get(), is(3));
+        assertThat(refreshing.get(), is(2));
+    }
+
+    @Test
+    public void recalculatesWeaklyHeldValueOnceCollected() {
+        ExpiringLazy<Object> weak = new ExpiringLazy<Object>(() -> {
+            calls.incrementAndGet();
+            return new Object();
+        }, Duration.ofDays(1)).holding(WEAKLY);
+
+        weak.get();
+        for (int i = 0; i < 10 && calls.get() == 1; i++) {
+            System.gc();
+            weak.get();
+        }
+
+        assertThat(calls.get(), is(2));
+    }
+
+    private static class TestClock extends Clock {
+        private Instant now = Instant.EPOCH;
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
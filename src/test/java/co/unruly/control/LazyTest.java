@@ -0,0 +1,94 @@
+package co.unruly.control;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static co.unruly.control.Lazy.ThreadSafety.NONE;
+import static co.unruly.control.Lazy.ThreadSafety.PUBLICATION;
+import static co.unruly.control.Lazy.ThreadSafety.SYNCHRONIZED;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class LazyTest {
+
+    @Test
+    public void doesNotCalculateValueUntilRequired() {
+        AtomicInteger calls = new AtomicInteger();
+        Lazy<Integer> lazy = new Lazy<>(calls::incrementAndGet);
+
+        assertThat(calls.get(), is(0));
+        assertThat(lazy.get(), is(1));
+        assertThat(lazy.get(), is(1));
+        assertThat(calls.get(), is(1));
+    }
+
+    @Test
+    public void canHoldNull() {
+        AtomicInteger calls = new AtomicInteger();
+        Lazy<String> lazy = new Lazy<>(() -> {
+            calls.incrementAndGet();
+            return null;
+        }, NONE);
+
+        assertThat(lazy.get(), is(nullValue()));
+        assertThat(lazy.get(), is(nullValue()));
+        assertThat(calls.get(), is(1));
+    }
+
+    @Test
+    public void synchronizedModeCalculatesOnlyOnceUnderContention() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Object[] results = getConcurrently(new Lazy<>(() -> {
+            calls.incrementAndGet();
+            return new Object();
+        }, SYNCHRONIZED));
+
+        assertThat(calls.get(), is(1));
+        assertAllSame(results);
+    }
+
+    @Test
+    public void publicationModeReturnsTheSameValueToEveryone() throws Exception {
+        Object[] results = getConcurrently(new Lazy<>(Object::new, PUBLICATION));
+
+        assertAllSame(results);
+    }
+
+    private static Object[] getConcurrently(Lazy<Object> lazy) throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch ready = new CountDownLatch(threads);
+            @SuppressWarnings("unchecked")
+            Future<Object>[] futures = new Future[threads];
+            for (int i = 0; i < threads; i++) {
+                futures[i] = executor.submit(() -> {
+                    ready.countDown();
+                    ready.await();
+                    return lazy.get();
+                });
+            }
+            Object[] results = new Object[threads];
+            for (int i = 0; i < threads; i++) {
+                results[i] = futures[i].get(1, TimeUnit.SECONDS);
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void assertAllSame(Object[] results) {
+        for (Object result : results) {
+            assertThat(result, is(sameInstance(results[0])));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package co.unruly.control.pair;
+
+import co.unruly.control.result.Result;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static co.unruly.control.matchers.ResultMatchers.isFailureOf;
+import static co.unruly.control.matchers.ResultMatchers.isSuccessOf;
+import static co.unruly.control.pair.Comprehensions.allOfConcurrently;
+import static co.unruly.control.result.Result.failure;
+import static co.unruly.control.result.Result.success;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ComprehensionsTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @After
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void runsSuppliersConcurrently() {
+        CountDownLatch allStarted = new CountDownLatch(3);
+
+        Result<Triple<String, Integer, Boolean>, String> result = allOfConcurrently(
+            awaitingOthers(allStarted, "a"),
+            awaitingOthers(allStarted, 1),
+            awaitingOthers(allStarted, true)
+        );
+
+        assertThat(result, isSuccessOf(Triple.of("a", 1, true)));
+    }
+
+    @Test
+    public void canRunSuppliersOnProvidedExecutor() {
+        Result<Quad<String, Integer, Boolean, Long>, String> result = allOfConcurrently(executor,
+            () -> success("a"),
+            () -> success(1),
+            () -> success(true),
+            () -> success(4L)
+        );
+
+        assertThat(result, isSuccessOf(Quad.of("a", 1, true, 4L)));
+    }
+
+    @Test
+    public void returnsFirstFailureAndInterruptsSiblings() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        Result<Pair<String, Integer>, String> result = allOfConcurrently(
+            () -> {
+                try {
+                    Thread.sleep(10_000);
+                    return success("too slow");
+                } catch (InterruptedException ex) {
+                    interrupted.countDown();
+                    return failure("interrupted");
+                }
+            },
+            () -> failure("backend unavailable")
+        );
+
+        assertThat(result, isFailureOf("backend unavailable"));
+        assertThat(interrupted.await(1, TimeUnit.SECONDS), is(true));
+        assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 5, is(true));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void propagatesExceptionsThrownBySuppliers() {
+        allOfConcurrently(executor,
+            () -> success("fine"),
+            () -> {
+                throw new IllegalStateException("oops");
+            }
+        );
+    }
+
+    private <T> Supplier<Result<T, String>> awaitingOthers(CountDownLatch started, T value) {
+        return () -> {
+            started.countDown();
+            try {
+                return started.await(1, TimeUnit.SECONDS)
+                    ? success(value)
+                    : failure("suppliers did not run concurrently");
+            } catch (InterruptedException ex) {
+                return failure("interrupted");
+            }
+        };
+    }
+}
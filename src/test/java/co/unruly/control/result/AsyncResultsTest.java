@@ -0,0 +1,166 @@
+package co.unruly.control.result;
+
+import co.unruly.control.pair.Pair;
+import co.unruly.control.pair.Quad;
+import co.unruly.control.pair.Triple;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static co.unruly.control.matchers.ResultMatchers.isFailureOf;
+import static co.unruly.control.matchers.ResultMatchers.isSuccessOf;
+import static co.unruly.control.result.AsyncResults.allOf;
+import static co.unruly.control.result.AsyncResults.anyOf;
+import static co.unruly.control.result.AsyncResults.attemptAsync;
+import static co.unruly.control.result.AsyncResults.fromFuture;
+import static co.unruly.control.result.AsyncResults.onFailureAsync;
+import static co.unruly.control.result.AsyncResults.onSuccessAsync;
+import static co.unruly.control.result.AsyncResults.recoverAsync;
+import static co.unruly.control.result.AsyncResults.tryToAsync;
+import static co.unruly.control.result.Result.failure;
+import static co.unruly.control.result.Result.success;
+import static co.unruly.control.result.Transformers.onSuccess;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class AsyncResultsTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    private final Function<String, CompletableFuture<Result<Integer, String>>> parse
+        = tryToAsync(Integer::parseInt, Exception::getMessage, executor);
+
+    @After
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void canChainAsyncAndSyncOperations() throws Exception {
+        CompletableFuture<Result<String, String>> result = parse.apply("21")
+            .thenApply(onSuccess(x -> x * 2))
+            .thenCompose(attemptAsync(x -> completedFuture(x > 40 ? success(x) : failure("too small"))))
+            .thenCompose(onSuccessAsync(Object::toString, executor))
+            .thenCompose(onFailureAsync((String f) -> f.toUpperCase(), executor));
+
+        assertThat(result.get(1, TimeUnit.SECONDS), isSuccessOf("42"));
+    }
+
+    @Test
+    public void failuresSkipSuccessStepsWithoutSchedulingWork() throws Exception {
+        AtomicInteger scheduled = new AtomicInteger();
+        CompletableFuture<Result<Integer, String>> result = parse.apply("twenty-one")
+            .thenCompose(onSuccessAsync(x -> x * 2, runnable -> {
+                scheduled.incrementAndGet();
+                executor.execute(runnable);
+            }))
+            .thenCompose(attemptAsync(x -> success(x + 1), executor));
+
+        assertThat(result.get(1, TimeUnit.SECONDS), isFailureOf("For input string: \"twenty-one\""));
+        assertThat(scheduled.get(), is(0));
+    }
+
+    @Test
+    public void canRecoverAsynchronously() throws Exception {
+        CompletableFuture<Result<Integer, String>> recovered = completedFuture(Result.<Integer, String>failure("404"))
+            .thenCompose(recoverAsync(f -> f.equals("404") ? success(0) : failure(f), executor));
+        CompletableFuture<Result<Integer, String>> notRecovered = completedFuture(Result.<Integer, String>failure("500"))
+            .thenCompose(recoverAsync(f -> completedFuture(f.equals("404") ? success(0) : failure(f))));
+
+        assertThat(recovered.get(1, TimeUnit.SECONDS), isSuccessOf(0));
+        assertThat(notRecovered.get(1, TimeUnit.SECONDS), isFailureOf("500"));
+    }
+
+    @Test
+    public void convertsExceptionalCompletionToFailure() throws Exception {
+        CompletableFuture<String> broken = new CompletableFuture<>();
+        broken.completeExceptionally(new IOException("connection reset"));
+
+        CompletableFuture<String> thrown = CompletableFuture.supplyAsync(() -> {
+            throw new IllegalStateException("bad state");
+        }, executor);
+
+        assertThat(fromFuture(broken, Throwable::getMessage).get(1, TimeUnit.SECONDS), isFailureOf("connection reset"));
+        assertThat(fromFuture(thrown, Throwable::getMessage).get(1, TimeUnit.SECONDS), isFailureOf("bad state"));
+        assertThat(fromFuture(completedFuture("fine"), Throwable::getMessage).get(1, TimeUnit.SECONDS), isSuccessOf("fine"));
+    }
+
+    @Test
+    public void allOfRunsConcurrentlyAndCombinesSuccesses() throws Exception {
+        CountDownLatch allStarted = new CountDownLatch(3);
+        CompletableFuture<Result<Pair<String, Integer>, String>> pair = allOf(
+            awaitingOthers(allStarted, success("a")),
+            awaitingOthers(allStarted, success(1))
+        );
+        CompletableFuture<Result<Triple<String, Integer, Boolean>, String>> triple = allOf(
+            completedFuture(success("a")),
+            completedFuture(success(1)),
+            awaitingOthers(allStarted, success(true))
+        );
+
+        assertThat(pair.get(1, TimeUnit.SECONDS), isSuccessOf(Pair.of("a", 1)));
+        assertThat(triple.get(1, TimeUnit.SECONDS), isSuccessOf(Triple.of("a", 1, true)));
+    }
+
+    @Test
+    public void allOfReturnsFirstFailureInArgumentOrder() throws Exception {
+        CompletableFuture<Result<Quad<String, Integer, Boolean, Long>, String>> quad = allOf(
+            completedFuture(success("a")),
+            CompletableFuture.supplyAsync(() -> failure("second"), executor),
+            completedFuture(failure("third")),
+            completedFuture(success(4L))
+        );
+
+        assertThat(quad.get(1, TimeUnit.SECONDS), isFailureOf("second"));
+    }
+
+    @Test
+    public void anyOfReturnsFirstSuccessToComplete() throws Exception {
+        CompletableFuture<Result<String, String>> neverCompletes = new CompletableFuture<>();
+
+        CompletableFuture<Result<String, List<String>>> any = anyOf(
+            neverCompletes,
+            completedFuture(failure("nope")),
+            CompletableFuture.supplyAsync(() -> success("yes"), executor)
+        );
+
+        assertThat(any.get(1, TimeUnit.SECONDS), isSuccessOf("yes"));
+    }
+
+    @Test
+    public void anyOfReturnsAllFailuresInArgumentOrderIfNothingSucceeds() throws Exception {
+        CompletableFuture<Result<String, List<String>>> any = anyOf(
+            CompletableFuture.supplyAsync(() -> failure("first"), executor),
+            completedFuture(failure("second")),
+            completedFuture(failure("third"))
+        );
+
+        assertThat(any.get(1, TimeUnit.SECONDS), isFailureOf(asList("first", "second", "third")));
+        assertThat(AsyncResults.<String, String>anyOf().get(), isFailureOf(asList()));
+    }
+
+    private <T> CompletableFuture<T> awaitingOthers(CountDownLatch started, T value) {
+        return CompletableFuture.supplyAsync(() -> {
+            started.countDown();
+            try {
+                if (!started.await(1, TimeUnit.SECONDS)) {
+                    throw new AssertionError("Tasks did not run concurrently");
+                }
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            return value;
+        }, executor);
+    }
+}
@@ -0,0 +1,203 @@
+package co.unruly.control.result;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static co.unruly.control.result.Result.failure;
+import static co.unruly.control.result.Result.success;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class BatchingTest {
+
+    private final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+
+    private final Function<Collection<Integer>, Map<Integer, String>> evenNumbers = keys -> {
+        batches.add(new ArrayList<>(keys));
+        return keys.stream()
+            .filter(x -> x % 2 == 0)
+            .collect(Collectors.toMap(x -> x, x -> "number " + x));
+    };
+
+    @Test
+    public void dispatchesFullBatchesStraightAway() {
+        BatchedFunction<Integer, String, String> lookup = Batching.fromBulkLoader(evenNumbers, x -> "no " + x)
+            .maxBatchSize(3)
+            .maxWait(Duration.ofHours(1))
+            .build();
+
+        CompletableFuture<Result<String, String>> one = lookup.applyAsync(1);
+        CompletableFuture<Result<String, String>> two = lookup.applyAsync(2);
+        assertThat(one.isDone(), is(false));
+
+        CompletableFuture<Result<String, String>> four = lookup.applyAsync(4);
+
+        assertThat(one.join(), is(failure("no 1")));
+        assertThat(two.join(), is(success("number 2")));
+        assertThat(four.join(), is(success("number 4")));
+        assertThat(batches, is(asList(asList(1, 2, 4))));
+    }
+
+    @Test
+    public void coalescesDuplicateKeysWithinABatch() {
+        BatchedFunction<Integer, String, String> lookup = Batching.fromBulkLoader(evenNumbers, x -> "no " + x)
+            .maxBatchSize(2)
+            .maxWait(Duration.ofHours(1))
+            .build();
+
+        CompletableFuture<Result<String, String>> first = lookup.applyAsync(2);
+        CompletableFuture<Result<String, String>> second = lookup.applyAsync(2);
+        lookup.applyAsync(3);
+
+        assertThat(first, is(second));
+        assertThat(first.join(), is(success("number 2")));
+        assertThat(batches, is(asList(asList(2, 3))));
+    }
+
+    @Test
+    public void dispatchesBatchesWhichHaveWaitedLongEnough() {
+        BatchedFunction<Integer, String, String> lookup = Batching.fromBulkLoader(evenNumbers, x -> "no " + x)
+            .maxWait(Duration.ofMillis(20))
+            .build();
+
+        List<CompletableFuture<Result<String, String>>> lookups = IntStream.range(0, 50)
+            .mapToObj(lookup::applyAsync)
+            .collect(toList());
+
+        assertThat(lookups.get(10).join(), is(success("number 10")));
+        assertThat(lookups.get(11).join(), is(failure("no 11")));
+        assertThat(batches, is(asList(IntStream.range(0, 50).boxed().collect(toList()))));
+        assertThat(lookup.apply(12), is(success("number 12")));
+        assertThat(batches.size(), is(2));
+    }
+
+    @Test
+    public void canFlushPendingBatches() {
+        BatchedFunction<Integer, String, String> lookup = Batching.fromBulkLoader(evenNumbers, x -> "no " + x)
+            .maxWait(Duration.ofHours(1))
+            .build();
+
+        CompletableFuture<Result<String, String>> six = lookup.applyAsync(6);
+        lookup.flush();
+
+        assertThat(six.join(), is(success("number 6")));
+    }
+
+    @Test
+    public void rethrowsLoaderExceptionsToEveryCallerInTheBatch() {
+        BatchedFunction<Integer, String, String> lookup = Batching.<Integer, String, String>fromBulkLoader(keys -> { throw new IllegalStateException("database down"); }, x -> "no " + x)
+            .maxBatchSize(2)
+            .build();
+
+        CompletableFuture<Result<String, String>> first = lookup.applyAsync(1);
+        lookup.applyAsync(2);
+
+        assertThat(first.isCompletedExceptionally(), is(true));
+        try {
+            lookup.apply(3);
+            throw new AssertionError("Expected an exception");
+        } catch (IllegalStateException ex) {
+            assertThat(ex.getMessage(), is("database down"));
+        }
+    }
+
+    @Test
+    public void looksUpStreamsInOrderedChunks() {
+        BatchedFunction<Integer, String, String> lookup = Batching.fromBulkLoader(evenNumbers, x -> "no " + x)
+            .maxBatchSize(3)
+            .build();
+
+        List<Result<String, String>> results = lookup.applyAll(Stream.of(1, 2, 2, 3, 4, 5, 6)).collect(toList());
+
+        assertThat(results, is(asList(
+            failure("no 1"), success("number 2"), success("number 2"), failure("no 3"),
+            success("number 4"), failure("no 5"), success("number 6"))));
+        assertThat(batches, is(asList(asList(1, 2, 3), asList(4, 5, 6))));
+    }
+
+    @Test
+    public void onlyLoadsChunksOfStreamsAsTheyreConsumed() {
+        BatchedFunction<Integer, String, String> lookup = Batching.fromBulkLoader(evenNumbers, x -> "no " + x)
+            .maxBatchSize(10)
+            .build();
+
+        lookup.applyAll(Stream.iterate(0, x -> x + 1)).limit(15).forEach(__ -> {});
+
+        assertThat(batches.size(), is(2));
+        assertThat(batches.get(1), is(IntStream.range(10, 20).boxed().collect(toList())));
+    }
+
+    @Test
+    public void failsEveryCallerInTheBatchIfTheLoaderReturnsNull() {
+        BatchedFunction<Integer, String, String> lookup = Batching.<Integer, String, String>fromBulkLoader(keys -> null, x -> "no " + x)
+            .maxBatchSize(2)
+            .build();
+
+        CompletableFuture<Result<String, String>> first = lookup.applyAsync(1);
+        CompletableFuture<Result<String, String>> second = lookup.applyAsync(2);
+
+        assertThat(first.isCompletedExceptionally(), is(true));
+        assertThat(second.isCompletedExceptionally(), is(true));
+    }
+
+    @Test
+    public void completesOtherLookupsInTheBatchIfTheFailureMapperThrows() {
+        BatchedFunction<Integer, String, String> lookup = Batching.fromBulkLoader(evenNumbers, x -> {
+                if (x == 1) {
+                    throw new IllegalStateException("can't describe " + x);
+                }
+                return "no " + x;
+            })
+            .maxBatchSize(3)
+            .build();
+
+        CompletableFuture<Result<String, String>> one = lookup.applyAsync(1);
+        CompletableFuture<Result<String, String>> two = lookup.applyAsync(2);
+        CompletableFuture<Result<String, String>> three = lookup.applyAsync(3);
+
+        assertThat(one.isCompletedExceptionally(), is(true));
+        assertThat(two.join(), is(success("number 2")));
+        assertThat(three.join(), is(failure("no 3")));
+    }
+
+    @Test
+    public void loadsBatchesOnTheSchedulerIfTheExecutorRejectsThem() {
+        BatchedFunction<Integer, String, String> lookup = Batching.fromBulkLoader(evenNumbers, x -> "no " + x)
+            .maxWait(Duration.ofMillis(5))
+            .dispatchingOn(task -> { throw new RejectedExecutionException("no room"); })
+            .build();
+
+        assertThat(lookup.applyAsync(4).join(), is(success("number 4")));
+    }
+
+    @Test
+    public void loadsBatchesStraightAwayIfTheSchedulerRejectsThem() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        scheduler.shutdown();
+        BatchedFunction<Integer, String, String> lookup = Batching.fromBulkLoader(evenNumbers, x -> "no " + x)
+            .maxWait(Duration.ofHours(1))
+            .withScheduler(scheduler)
+            .build();
+
+        CompletableFuture<Result<String, String>> four = lookup.applyAsync(4);
+
+        assertThat(four.isDone(), is(true));
+        assertThat(four.join(), is(success("number 4")));
+    }
+}
@@ -96,6 +96,127 @@ public class MatchTest {
         factorial(-1);
     }
 
+    @Test
+    public void firstMatchingMatcherWinsAcrossMixedMatchers() {
+        Function<Object, String> dispatch = match(
+                ifEquals((Object) "special", x -> "equal to special"),
+                ifType(B.class, B::messageForB),
+                ifIs(x -> x.toString().startsWith("p"), x -> "starts with p"),
+                ifType(String.class, x -> "some string"),
+                ifType(A.class, A::message),
+                ifEquals((Object) "pickles", x -> "equal to pickles"),
+                ifType(C.class, C::messageForC)
+        ).otherwise(x -> "no idea");
+
+        assertThat(dispatch.apply("special"), is("equal to special"));
+        assertThat(dispatch.apply("pickles"), is("starts with p"));
+        assertThat(dispatch.apply("cheese"), is("some string"));
+        assertThat(dispatch.apply(new B("Ketchup")), is("I'm a B and I say Ketchup"));
+        assertThat(dispatch.apply(new C("Mustard")), is("Mustard"));
+        assertThat(dispatch.apply(42), is("no idea"));
+    }
+
+    @Test
+    public void dispatchesTheSameWayOnceReusedTablesAreCompiled() {
+        Function<Object, String> dispatch = match(
+                ifEquals((Object) "special", x -> "equal to special"),
+                ifIs(x -> x.toString().startsWith("p"), x -> "starts with p"),
+                ifType(String.class, x -> "some string"),
+                ifEquals((Object) "pickles", x -> "equal to pickles")
+        ).otherwise(x -> "no idea");
+
+        for (int i = 0; i < CompiledMatch.Deferred.COMPILE_AFTER * 2; i++) {
+            assertThat(dispatch.apply("special"), is("equal to special"));
+            assertThat(dispatch.apply("pickles"), is("starts with p"));
+            assertThat(dispatch.apply("cheese"), is("some string"));
+            assertThat(dispatch.apply(42), is("no idea"));
+        }
+    }
+
+    @Test
+    public void laterMatchersSeeFailuresReplacedByEarlierMatchers() {
+        Function<Integer, Result<String, Integer>> dispatch = Match.attemptMatch(
+                x -> x < 0 ? Result.failure(-x) : Result.failure(x),
+                ifEquals(3, x -> "three"),
+                ifType(Integer.class, x -> "number " + x)
+        );
+
+        assertThat(dispatch.apply(-3), is(Result.success("three")));
+        assertThat(dispatch.apply(-4), is(Result.success("number 4")));
+    }
+
+    @Test
+    public void attemptMatchFailsWithTheReplacedValueIfNothingLaterMatches() {
+        Function<Integer, Result<String, Integer>> dispatch = Match.attemptMatch(
+                x -> Result.failure(x + 100),
+                ifEquals(999, x -> "nine nine nine")
+        );
+
+        assertThat(dispatch.apply(1), is(Result.failure(101)));
+        assertThat(dispatch.apply(899), is(Result.success("nine nine nine")));
+    }
+
+    @Test
+    public void matchAppliesBaseCaseToReplacedValueBeforeAndAfterCompiling() {
+        Function<Integer, String> dispatch = match(
+                (Integer x) -> Result.failure(x + 100),
+                ifEquals(999, x -> "nine nine nine")
+        ).otherwise(x -> "unmatched " + x);
+
+        for (int i = 0; i < CompiledMatch.Deferred.COMPILE_AFTER * 2; i++) {
+            assertThat(dispatch.apply(1), is("unmatched 101"));
+            assertThat(dispatch.apply(899), is("nine nine nine"));
+        }
+    }
+
+    @Test
+    public void canDispatchAcrossLargeTables() {
+        @SuppressWarnings("unchecked")
+        Function<Integer, Result<String, Integer>>[] matchers = new Function[100];
+        for (int i = 0; i < matchers.length; i++) {
+            String message = "matched " + i;
+            matchers[i] = ifEquals(i, __ -> message);
+        }
+        Function<Integer, Result<String, Integer>> dispatch = Match.attemptMatch(matchers);
+
+        assertThat(dispatch.apply(0), is(Result.success("matched 0")));
+        assertThat(dispatch.apply(99), is(Result.success("matched 99")));
+        assertThat(dispatch.apply(100), is(Result.failure(100)));
+    }
+
+    @Test
+    public void canUseCustomMatchersWhichAreTestedBeforeBeingApplied() {
+        Match.Matcher<String, Integer> digits = new Match.Matcher<String, Integer>() {
+            @Override
+            public boolean matches(String input) {
+                return input.chars().allMatch(Character::isDigit);
+            }
+
+            @Override
+            public Integer applyMatched(String input) {
+                return Integer.parseInt(input);
+            }
+        };
+
+        Function<String, Integer> parse = match(digits, ifEquals("many", __ -> 1000)).otherwise(String::length);
+
+        assertThat(parse.apply("123"), is(123));
+        assertThat(parse.apply("many"), is(1000));
+        assertThat(parse.apply("few"), is(3));
+        assertThat(digits.apply("42"), is(Result.success(42)));
+        assertThat(digits.apply("x"), is(Result.failure("x")));
+    }
+
+    @Test
+    public void matchValueAppliesBaseCaseToReplacedFailure() {
+        String matched = matchValue(-7,
+                (Integer x) -> x < 0 ? Result.failure(-x) : Result.failure(x),
+                ifEquals(3, x -> "three")
+        ).otherwise(x -> "unmatched " + x);
+
+        assertThat(matched, is("unmatched 7"));
+    }
+
     private static int factorial(int number) {
         return matchValue(number,
             ifIs(n -> n < 0, n -> { throw new IllegalArgumentException("Cannot calculate factorial of a negative number"); }),
@@ -0,0 +1,215 @@
+package co.unruly.control.result;
+
+import org.junit.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static co.unruly.control.matchers.ResultMatchers.isFailureOf;
+import static co.unruly.control.matchers.ResultMatchers.isSuccessOf;
+import static co.unruly.control.result.Memoize.Eviction.LEAST_FREQUENTLY_USED;
+import static co.unruly.control.result.Memoize.memoize;
+import static co.unruly.control.result.Result.failure;
+import static co.unruly.control.result.Result.success;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MemoizeTest {
+
+    private final TestClock clock = new TestClock();
+    private final ConcurrentHashMap<Integer, AtomicInteger> calls = new ConcurrentHashMap<>();
+    private final Function<Integer, Result<Integer, String>> evensOnly = x -> {
+        calls.computeIfAbsent(x, __ -> new AtomicInteger()).incrementAndGet();
+        return x % 2 == 0 ? success(x / 2) : failure(x + " is odd");
+    };
+
+    @Test
+    public void cachesSuccessesAndFailures() {
+        MemoizedFunction<Integer, Integer, String> memoized = memoize(evensOnly).build();
+
+        assertThat(memoized.apply(4), isSuccessOf(2));
+        assertThat(memoized.apply(4), isSuccessOf(2));
+        assertThat(memoized.apply(5), isFailureOf("5 is odd"));
+        assertThat(memoized.apply(5), isFailureOf("5 is odd"));
+
+        assertThat(callsFor(4), is(1));
+        assertThat(callsFor(5), is(1));
+    }
+
+    @Test
+    public void expiresSuccessesAndFailuresSeparately() {
+        MemoizedFunction<Integer, Integer, String> memoized = memoize(evensOnly)
+            .cachingSuccessesFor(Duration.ofMinutes(10))
+            .cachingFailuresFor(Duration.ofSeconds(5))
+            .withClock(clock)
+            .build();
+
+        memoized.apply(4);
+        memoized.apply(5);
+        clock.advance(Duration.ofSeconds(5));
+        memoized.apply(4);
+        memoized.apply(5);
+
+        assertThat(callsFor(4), is(1));
+        assertThat(callsFor(5), is(2));
+    }
+
+    @Test
+    public void canSkipCachingFailures() {
+        MemoizedFunction<Integer, Integer, String> memoized = memoize(evensOnly)
+            .cachingFailuresFor(Duration.ZERO)
+            .build();
+
+        memoized.apply(5);
+        memoized.apply(5);
+
+        assertThat(callsFor(5), is(2));
+        assertThat(memoized.size(), is(0));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedWhenFull() {
+        MemoizedFunction<Integer, Integer, String> memoized = memoize(evensOnly).maximumSize(3).build();
+
+        memoized.apply(1);
+        memoized.apply(2);
+        memoized.apply(3);
+        memoized.apply(1);
+        memoized.apply(4);
+
+        assertThat(memoized.size(), is(3));
+        memoized.apply(1);
+        memoized.apply(2);
+        assertThat(callsFor(1), is(1));
+        assertThat(callsFor(2), is(2));
+    }
+
+    @Test
+    public void evictsLeastFrequentlyUsedWhenFull() {
+        MemoizedFunction<Integer, Integer, String> memoized = memoize(evensOnly)
+            .maximumSize(3)
+            .evicting(LEAST_FREQUENTLY_USED)
+            .build();
+
+        for (int i = 0; i < 3; i++) {
+            memoized.apply(1);
+            memoized.apply(3);
+        }
+        memoized.apply(2);
+        memoized.apply(4);
+
+        assertThat(memoized.size(), is(3));
+        memoized.apply(1);
+        memoized.apply(3);
+        assertThat(callsFor(1), is(1));
+        assertThat(callsFor(3), is(1));
+    }
+
+    @Test
+    public void collapsesConcurrentMisses() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger computations = new AtomicInteger();
+        MemoizedFunction<String, Integer, String> memoized = memoize((String key) -> {
+            computations.incrementAndGet();
+            try {
+                release.await(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                return Result.<Integer, String>failure("interrupted");
+            }
+            return Result.<Integer, String>success(key.length());
+        }).build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            @SuppressWarnings("unchecked")
+            Future<Result<Integer, String>>[] results = new Future[4];
+            for (int i = 0; i < results.length; i++) {
+                results[i] = executor.submit(() -> memoized.apply("hello"));
+            }
+            Thread.sleep(50);
+            release.countDown();
+
+            for (Future<Result<Integer, String>> result : results) {
+                assertThat(result.get(1, TimeUnit.SECONDS), isSuccessOf(5));
+            }
+            assertThat(computations.get(), is(1));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void doesNotCacheExceptions() {
+        AtomicInteger attempts = new AtomicInteger();
+        MemoizedFunction<String, Integer, String> memoized = memoize((String key) -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("transient");
+            }
+            return Result.<Integer, String>success(key.length());
+        }).build();
+
+        try {
+            memoized.apply("hello");
+        } catch (IllegalStateException expected) {
+        }
+
+        assertThat(memoized.apply("hello"), isSuccessOf(5));
+        assertThat(attempts.get(), is(2));
+    }
+
+    @Test(timeout = 5000)
+    public void rejectsRecursiveCallsForTheInputBeingComputed() {
+        AtomicReference<MemoizedFunction<Integer, Integer, String>> factorial = new AtomicReference<>();
+        factorial.set(memoize((Integer n) -> n <= 1
+            ? Result.<Integer, String>success(1)
+            : factorial.get().apply(n == 3 ? n : n - 1).then(Transformers.onSuccess(x -> x * n))).build());
+
+        assertThat(factorial.get().apply(2), isSuccessOf(2));
+        try {
+            factorial.get().apply(3);
+            throw new AssertionError("Expected the recursive call to be rejected");
+        } catch (IllegalStateException expected) {
+        }
+        assertThat(factorial.get().size(), is(2));
+    }
+
+    private int callsFor(int input) {
+        AtomicInteger count = calls.get(input);
+        return count == null ? 0 : count.get();
+    }
+
+    private static class TestClock extends Clock {
+        private Instant now = Instant.EPOCH;
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package co.unruly.control.result;
+
+import co.unruly.control.pair.Pair;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static co.unruly.control.matchers.ResultMatchers.isFailureOf;
+import static co.unruly.control.matchers.ResultMatchers.isSuccessOf;
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+public class PrimitiveResultsTest {
+
+    private final Function<String, IntResult<String>> parseInt = IntResults.tryTo(Integer::parseInt, Exception::getMessage);
+
+    @Test
+    public void canResolveIntResultsWithoutBoxing() {
+        IntResult<String> success = IntResult.success(5);
+        IntResult<String> failure = IntResult.failure("nope");
+
+        assertThat(success.eitherAsInt(x -> x * 2, String::length), is(10));
+        assertThat(failure.eitherAsInt(x -> x * 2, String::length), is(4));
+        assertThat(IntResults.<String>ifFailed(String::length).applyAsInt(failure), is(4));
+    }
+
+    @Test
+    public void canTryFunctionsWhichThrowCheckedExceptions() {
+        Function<String, IntResult<String>> length = IntResults.tryTo(PrimitiveResultsTest::checkedLength, Exception::getMessage);
+        Function<String, LongResult<String>> longLength = LongResults.tryTo(PrimitiveResultsTest::checkedLength, Exception::getMessage);
+        Function<String, DoubleResult<String>> doubleLength = DoubleResults.tryTo(PrimitiveResultsTest::checkedLength, Exception::getMessage);
+
+        assertThat(length.apply("hello").eitherAsInt(x -> x, __ -> -1), is(5));
+        assertThat(length.apply("").either(x -> "success", x -> x), is("empty"));
+        assertThat(longLength.apply("hello").eitherAsLong(x -> x, __ -> -1), is(5L));
+        assertThat(doubleLength.apply("").either(x -> "success", x -> x), is("empty"));
+    }
+
+    @Test
+    public void canChainIntTransformers() {
+        Result<String, String> parsed = parseInt.apply("21")
+            .then(IntResults.onSuccess(x -> x * 2))
+            .then(IntResults.attempt(x -> x > 40 ? IntResult.success(x) : IntResult.failure("too small")))
+            .then(IntResults.onFailure(String::toUpperCase))
+            .then(IntResults.onSuccessToObj(Integer::toString));
+
+        Result<String, String> unparsed = parseInt.apply("twenty-one")
+            .then(IntResults.onSuccess(x -> x * 2))
+            .then(IntResults.onFailure(String::toUpperCase))
+            .then(IntResults.onSuccessToObj(Integer::toString));
+
+        assertThat(parsed, isSuccessOf("42"));
+        assertThat(unparsed, isFailureOf("FOR INPUT STRING: \"TWENTY-ONE\""));
+    }
+
+    @Test
+    public void canRecoverIntResults() {
+        IntResult<Integer> recovered = IntResult.<String>failure("0")
+            .then(IntResults.recover(f -> f.isEmpty() ? IntResult.failure(-1) : IntResult.success(f.length())));
+
+        assertThat(recovered, is(IntResult.success(1)));
+    }
+
+    @Test
+    public void canBridgeBetweenResultsAndIntResults() {
+        Result<String, String> number = Result.success("12");
+
+        IntResult<String> bridged = number.then(IntResults.attemptAsInt(parseInt));
+
+        assertThat(bridged, is(IntResult.success(12)));
+        assertThat(bridged.toResult(), isSuccessOf(12));
+        assertThat(IntResult.fromResult(Result.success(7)), is(IntResult.success(7)));
+        assertThat(IntResult.fromResult(Result.<Integer, String>failure("no")), is(IntResult.failure("no")));
+    }
+
+    @Test
+    public void canSplitStreamsOfIntResults() {
+        Pair<int[], List<String>> split = Stream.of("1", "two", "3", "four")
+            .map(parseInt)
+            .collect(IntResults.split());
+
+        assertArrayEquals(new int[] { 1, 3 }, split.left);
+        assertThat(split.right, is(asList("For input string: \"two\"", "For input string: \"four\"")));
+    }
+
+    @Test
+    public void canCollectIntResultsInParallel() {
+        Result<int[], List<String>> all = Stream.of("1", "2", "3", "4", "5", "6", "7", "8")
+            .parallel()
+            .map(parseInt)
+            .collect(IntResults.allSucceeded());
+
+        assertArrayEquals(new int[] { 1, 2, 3, 4, 5, 6, 7, 8 }, all.then(Resolvers.ifFailed(__ -> new int[0])));
+    }
+
+    @Test
+    public void canFlatMapSuccessesToPrimitiveStreams() {
+        long total = Stream.of("1", "2", "x", "4")
+            .map(LongResults.<String, String, RuntimeException>tryTo(Long::parseLong, Exception::getMessage))
+            .flatMapToLong(LongResults.successes())
+            .sum();
+
+        double product = Stream.of("1.5", "oops", "4")
+            .map(DoubleResults.<String, String, RuntimeException>tryTo(Double::parseDouble, Exception::getMessage))
+            .flatMapToDouble(DoubleResults.successes())
+            .reduce(1, (a, b) -> a * b);
+
+        assertThat(total, is(7L));
+        assertThat(product, is(6.0));
+    }
+
+    @Test
+    public void longAndDoubleResultsResolveAndCollect() {
+        Result<double[], List<String>> halves = Stream.of(1.0, 2.0, 3.0)
+            .map(d -> DoubleResult.<String>success(d))
+            .map(DoubleResults.onSuccess(d -> d / 2))
+            .collect(DoubleResults.allSucceeded());
+
+        Result<long[], List<String>> failed = Stream.<LongResult<String>>of(LongResult.success(1L), LongResult.failure("bad"))
+            .collect(LongResults.allSucceeded());
+
+        assertArrayEquals(new double[] { 0.5, 1.0, 1.5 }, halves.then(Resolvers.ifFailed(__ -> new double[0])), 0.0);
+        assertThat(failed, isFailureOf(asList("bad")));
+        assertThat(LongResult.success(3L).eitherAsLong(x -> x + 1, __ -> 0L), is(4L));
+        assertThat(DoubleResult.success(Double.NaN), is(DoubleResult.success(Double.NaN)));
+    }
+
+    private static int checkedLength(String value) throws IOException {
+        if (value.isEmpty()) {
+            throw new IOException("empty");
+        }
+        return value.length();
+    }
+}
@@ -0,0 +1,324 @@
+package co.unruly.control.result;
+
+import org.junit.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static co.unruly.control.result.Resilience.retrying;
+import static co.unruly.control.result.Resilience.timingOut;
+import static co.unruly.control.result.Result.failure;
+import static co.unruly.control.result.Result.success;
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ResilienceTest {
+
+    @Test
+    public void retriesFailuresWithExponentialBackoff() {
+        List<Duration> delays = new ArrayList<>();
+        Function<String, Result<String, String>> flaky = outcomes(failure("one"), failure("two"), failure("three"), success("yay"));
+
+        Function<String, Result<String, String>> retried = retrying(flaky, Backoff.exponential(Duration.ofMillis(100), Duration.ofMillis(300))
+            .maxAttempts(5)
+            .withJitter(0)
+            .withSleeper(delays::add));
+
+        assertThat(retried.apply("go"), is(success("yay")));
+        assertThat(delays, is(asList(Duration.ofMillis(100), Duration.ofMillis(200), Duration.ofMillis(300))));
+    }
+
+    @Test
+    public void returnsTheLastFailureOnceAttemptsAreExhausted() {
+        AtomicInteger attempts = new AtomicInteger();
+        Function<String, Result<String, String>> broken = x -> failure("attempt " + attempts.incrementAndGet());
+
+        Function<String, Result<String, String>> retried = retrying(broken, Backoff.exponential(Duration.ofMillis(100), Duration.ofSeconds(1))
+            .withSleeper(__ -> {}));
+
+        assertThat(retried.apply("go"), is(failure("attempt 3")));
+    }
+
+    @Test
+    public void onlyRetriesFailuresWhichPassTheTest() {
+        Function<String, Result<String, String>> flaky = outcomes(failure("transient"), failure("permanent"), success("yay"));
+
+        Function<String, Result<String, String>> retried = retrying(flaky, Backoff.exponential(Duration.ofMillis(100), Duration.ofSeconds(1))
+            .withSleeper(__ -> {}), "transient"::equals);
+
+        assertThat(retried.apply("go"), is(failure("permanent")));
+    }
+
+    @Test
+    public void jitterShortensDelaysByUpToTheJitterFraction() {
+        List<Duration> delays = new ArrayList<>();
+        Function<String, Result<String, String>> broken = x -> failure("nope");
+
+        retrying(broken, Backoff.exponential(Duration.ofMillis(1000), Duration.ofSeconds(10))
+            .maxAttempts(50)
+            .withJitter(0.25)
+            .withRandom(new Random(42))
+            .withSleeper(delays::add)).apply("go");
+
+        for (int i = 0; i < delays.size(); i++) {
+            long expected = Math.min(10_000, 1000L << Math.min(i, 20));
+            long actual = delays.get(i).toMillis();
+            assertThat(actual <= expected && actual >= expected * 3 / 4, is(true));
+        }
+    }
+
+    @Test
+    public void timesOutSlowCallsAndInterruptsThem() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Function<String, Result<String, String>> slow = x -> {
+            try {
+                Thread.sleep(10_000);
+                return success(x);
+            } catch (InterruptedException ex) {
+                interrupted.countDown();
+                return failure("interrupted");
+            }
+        };
+
+        try {
+            Function<String, Result<String, String>> limited = timingOut(slow, Duration.ofMillis(20), executor, Rejection::name);
+            Function<String, Result<String, String>> quick = timingOut(Result::success, Duration.ofSeconds(1), executor, Rejection::name);
+
+            assertThat(limited.apply("go"), is(failure("TIMED_OUT")));
+            assertThat(interrupted.await(1, TimeUnit.SECONDS), is(true));
+            assertThat(quick.apply("go"), is(success("go")));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void timesOutCallsWhenTheSchedulerSaysSo() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ManualScheduler scheduler = new ManualScheduler();
+        CountDownLatch started = new CountDownLatch(1);
+        Function<String, Result<String, String>> limited = timingOut(x -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException ex) {
+                return failure("interrupted");
+            }
+            return success(x);
+        }, Duration.ofHours(1), executor, scheduler, Rejection::name);
+
+        try {
+            ExecutorService caller = Executors.newSingleThreadExecutor();
+            Future<Result<String, String>> result = caller.submit(() -> limited.apply("go"));
+            assertThat(started.await(1, TimeUnit.SECONDS), is(true));
+            caller.shutdown();
+
+            scheduler.elapse();
+            assertThat(result.get(1, TimeUnit.SECONDS), is(failure("TIMED_OUT")));
+        } finally {
+            executor.shutdownNow();
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void doesNotInterruptTheCallerWhenTheExecutorRunsCallsOnIt() {
+        ManualScheduler scheduler = new ManualScheduler();
+        try {
+            Function<String, Result<String, String>> limited = timingOut(x -> {
+                scheduler.elapse();
+                return success(x);
+            }, Duration.ofSeconds(1), Runnable::run, scheduler, Rejection::name);
+
+            assertThat(limited.apply("go"), is(failure("TIMED_OUT")));
+            assertThat(Thread.interrupted(), is(false));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void failsCallsWhichTheExecutorRefusesToRun() {
+        Executor refusing = task -> { throw new RejectedExecutionException("no room"); };
+        ManualScheduler scheduler = new ManualScheduler();
+
+        try {
+            Function<String, Result<String, String>> limited = timingOut(Result::success, Duration.ofSeconds(1), refusing, scheduler, Rejection::name);
+
+            assertThat(limited.apply("go"), is(failure("EXECUTOR_UNAVAILABLE")));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void bulkheadsRejectCallsBeyondTheirLimit() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Bulkhead bulkhead = new Bulkhead(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<String, Result<String, String>> blocking = bulkhead.protect(x -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                throw new AssertionError(ex);
+            }
+            return success(x);
+        }, Rejection::name);
+
+        try {
+            executor.submit(() -> blocking.apply("first"));
+            assertThat(started.await(1, TimeUnit.SECONDS), is(true));
+
+            assertThat(blocking.apply("second"), is(failure("BULKHEAD_FULL")));
+            assertThat(bulkhead.availableCalls(), is(0));
+
+            release.countDown();
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+            assertThat(blocking.apply("third"), is(success("third")));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void circuitBreakersOpenAfterConsecutiveFailuresAndProbeOnceHalfOpen() {
+        TestClock clock = new TestClock();
+        CircuitBreaker breaker = new CircuitBreaker(3, Duration.ofSeconds(30)).withClock(clock);
+        AtomicInteger calls = new AtomicInteger();
+        boolean[] healthy = { false };
+        Function<String, Result<String, String>> dependency = breaker.protect(x -> {
+            calls.incrementAndGet();
+            return healthy[0] ? success(x) : failure("down");
+        }, Rejection::name);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(dependency.apply("go"), is(failure("down")));
+        }
+        assertThat(breaker.state(), is(CircuitBreaker.State.OPEN));
+        assertThat(dependency.apply("go"), is(failure("CIRCUIT_OPEN")));
+        assertThat(calls.get(), is(3));
+
+        clock.advance(Duration.ofSeconds(30));
+        assertThat(dependency.apply("go"), is(failure("down")));
+        assertThat(breaker.state(), is(CircuitBreaker.State.OPEN));
+        assertThat(dependency.apply("go"), is(failure("CIRCUIT_OPEN")));
+
+        clock.advance(Duration.ofSeconds(30));
+        healthy[0] = true;
+        assertThat(dependency.apply("go"), is(success("go")));
+        assertThat(breaker.state(), is(CircuitBreaker.State.CLOSED));
+        assertThat(calls.get(), is(5));
+    }
+
+    @Test
+    public void letsAnotherProbeThroughOnceAProbeTimesOutAndIgnoresTheAbandonedProbe() {
+        TestClock clock = new TestClock();
+        CircuitBreaker breaker = new CircuitBreaker(1, Duration.ofSeconds(30))
+            .withProbeTimeout(Duration.ofSeconds(5))
+            .withClock(clock);
+        List<Result<String, String>> overtaken = new ArrayList<>();
+        List<Function<String, Result<String, String>>> dependency = new ArrayList<>();
+        dependency.add(breaker.protect(x -> {
+            if (x.equals("stuck")) {
+                assertThat(dependency.get(0).apply("go"), is(failure("CIRCUIT_OPEN")));
+                clock.advance(Duration.ofSeconds(5));
+                overtaken.add(dependency.get(0).apply("go"));
+                return failure("too late");
+            }
+            return x.equals("down") ? failure(x) : success(x);
+        }, Rejection::name));
+
+        dependency.get(0).apply("down");
+        clock.advance(Duration.ofSeconds(30));
+
+        assertThat(dependency.get(0).apply("stuck"), is(failure("too late")));
+        assertThat(overtaken, is(asList(success("go"))));
+        assertThat(breaker.state(), is(CircuitBreaker.State.CLOSED));
+    }
+
+    @Test
+    public void successesResetTheConsecutiveFailureCount() {
+        CircuitBreaker breaker = new CircuitBreaker(2, Duration.ofSeconds(30));
+        Function<String, Result<String, String>> dependency = breaker.protect(
+            outcomes(failure("down"), success("up"), failure("down"), success("up")),
+            Rejection::name);
+
+        for (int i = 0; i < 4; i++) {
+            dependency.apply("go");
+        }
+
+        assertThat(breaker.state(), is(CircuitBreaker.State.CLOSED));
+    }
+
+    @SafeVarargs
+    private static <I, O, F> Function<I, Result<O, F>> outcomes(Result<O, F>... results) {
+        Iterator<Result<O, F>> remaining = asList(results).iterator();
+        return __ -> remaining.next();
+    }
+
+    private static class ManualScheduler extends ScheduledThreadPoolExecutor {
+        private final List<Runnable> scheduled = new CopyOnWriteArrayList<>();
+
+        ManualScheduler() {
+            super(1);
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            scheduled.add(command);
+            return super.schedule(() -> {}, 1, TimeUnit.HOURS);
+        }
+
+        void elapse() {
+            scheduled.forEach(Runnable::run);
+            scheduled.clear();
+        }
+    }
+
+    private static class TestClock extends Clock {
+        private Instant now = Instant.EPOCH;
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package co.unruly.control.result;
+
+import co.unruly.control.Lists;
+import co.unruly.control.pair.Pair;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static co.unruly.control.matchers.ResultMatchers.isFailureOf;
+import static co.unruly.control.matchers.ResultMatchers.isSuccessOf;
+import static co.unruly.control.result.Resolvers.allSucceeded;
+import static co.unruly.control.result.Resolvers.allSucceededOrFirstFailure;
+import static co.unruly.control.result.Resolvers.allSucceededOrFirstFailures;
+import static co.unruly.control.result.Resolvers.concurrentAllSucceeded;
+import static co.unruly.control.result.Resolvers.concurrentSplit;
+import static co.unruly.control.result.Resolvers.countSuccessesAndFailures;
+import static co.unruly.control.result.Resolvers.sampleFailures;
+import static co.unruly.control.result.Resolvers.split;
+import static co.unruly.control.result.Resolvers.splitWith;
+import static co.unruly.control.result.Result.failure;
+import static co.unruly.control.result.Result.success;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.summingInt;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ResultCollectorsTest {
+
+    private static final int SIZE = 100_000;
+
+    @Test
+    public void parallelSplitPreservesEncounterOrder() {
+        Pair<List<Integer>, List<Integer>> split = numbers().parallel().collect(split());
+
+        assertThat(split.left, is(IntStream.range(0, SIZE).filter(x -> x % 10 != 0).boxed().collect(toList())));
+        assertThat(split.right, is(IntStream.range(0, SIZE).filter(x -> x % 10 == 0).boxed().collect(toList())));
+    }
+
+    @Test
+    public void parallelSizedSplitOnlyPresizesOnePartialResult() {
+        int hint = SIZE * 2;
+        AtomicInteger presized = new AtomicInteger();
+        AtomicInteger partials = new AtomicInteger();
+        ResultCollector<Integer, Integer, Pair<List<Integer>, List<Integer>>> sized = new ResultCollector<>(x -> x, hint, capacity -> {
+            partials.incrementAndGet();
+            if (capacity == hint) {
+                presized.incrementAndGet();
+            }
+            return new ArrayList<>(capacity);
+        });
+
+        assertThat(numbers().parallel().collect(sized), is(numbers().collect(split())));
+        assertThat(partials.get() > 1, is(true));
+        assertThat(presized.get(), is(1));
+        assertThat(numbers().parallel().collect(allSucceeded(hint)), is(numbers().collect(allSucceeded())));
+    }
+
+    @Test
+    public void sizedSplitBehavesLikeUnsizedSplit() {
+        assertThat(numbers().collect(split(SIZE)), is(numbers().collect(split())));
+        assertThat(numbers().parallel().collect(split(SIZE)), is(numbers().collect(split())));
+    }
+
+    @Test
+    public void sizedAllSucceededBehavesLikeUnsizedAllSucceeded() {
+        Result<List<Integer>, List<String>> allSucceeded = Stream.of(1, 2, 3)
+            .map(Result::<Integer, String>success)
+            .collect(allSucceeded(3));
+
+        assertThat(allSucceeded, isSuccessOf(asList(1, 2, 3)));
+    }
+
+    @Test
+    public void concurrentSplitCollectsEverythingInSomeOrder() {
+        Pair<List<Integer>, List<Integer>> expected = numbers().collect(split());
+
+        Pair<List<Integer>, List<Integer>> split = numbers().parallel().collect(concurrentSplit());
+
+        // sorting keeps this linear-ish: containsInAnyOrder is quadratic over 90k successes
+        assertThat(split.left.stream().sorted().collect(toList()), is(expected.left));
+        assertThat(split.right.stream().sorted().collect(toList()), is(expected.right));
+    }
+
+    @Test
+    public void concurrentSplitWorksOnSequentialStreams() {
+        Pair<List<Integer>, List<String>> split = Stream.<Result<Integer, String>>of(success(1), failure("two"), success(3))
+            .collect(concurrentSplit());
+
+        assertThat(split.left, containsInAnyOrder(1, 3));
+        assertThat(split.right, is(asList("two")));
+    }
+
+    @Test
+    public void concurrentAllSucceededReportsSuccessesOrFailures() {
+        Result<List<Integer>, List<Integer>> someFailed = numbers().parallel().collect(concurrentAllSucceeded());
+        Result<List<Integer>, List<String>> allPassed = IntStream.range(0, SIZE).boxed().parallel()
+            .map(Result::<Integer, String>success)
+            .collect(concurrentAllSucceeded());
+
+        assertThat(someFailed.either(List::size, f -> -f.size()), is(-SIZE / 10));
+        assertThat(allPassed.either(List::size, f -> -f.size()), is(SIZE));
+    }
+
+    @Test
+    public void allSucceededOrFirstFailureStopsConsumingAtTheFirstFailure() {
+        AtomicInteger consumed = new AtomicInteger();
+
+        Result<List<Integer>, Integer> result = allSucceededOrFirstFailure(Stream.iterate(1, x -> x + 1)
+            .peek(__ -> consumed.incrementAndGet())
+            .map(x -> x % 5 == 0 ? failure(x) : success(x)));
+
+        assertThat(result, isFailureOf(5));
+        assertThat(consumed.get(), is(5));
+    }
+
+    @Test
+    public void allSucceededOrFirstFailuresStopsConsumingOnceEnoughFailuresAreFound() {
+        AtomicInteger consumed = new AtomicInteger();
+
+        Result<List<Integer>, List<Integer>> result = allSucceededOrFirstFailures(Stream.iterate(1, x -> x + 1)
+            .peek(__ -> consumed.incrementAndGet())
+            .map(x -> x % 5 == 0 ? failure(x) : success(x)), 3);
+
+        assertThat(result, isFailureOf(asList(5, 10, 15)));
+        assertThat(consumed.get(), is(15));
+    }
+
+    @Test
+    public void allSucceededOrFirstFailureClosesTheStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+
+        allSucceededOrFirstFailure(Stream.iterate(1, x -> x + 1)
+            .map(x -> x < 5 ? Result.<Integer, Integer>success(x) : Result.<Integer, Integer>failure(x))
+            .onClose(() -> closed.set(true)));
+
+        assertThat(closed.get(), is(true));
+    }
+
+    @Test
+    public void allSucceededOrFirstFailuresReturnsFewerFailuresIfThatsAllThereIs() {
+        Result<List<Integer>, List<Integer>> result = allSucceededOrFirstFailures(numbers().limit(25), 10);
+
+        assertThat(result, isFailureOf(asList(0, 10, 20)));
+    }
+
+    @Test
+    public void allSucceededOrFirstFailureReturnsSuccessesIfNothingFailed() {
+        Stream<Result<Integer, String>> successes = Stream.of(success(1), success(2), success(3));
+
+        assertThat(allSucceededOrFirstFailure(successes), isSuccessOf(asList(1, 2, 3)));
+        assertThat(Lists.successesOrFirstFailure(asList(success(1), failure("two"), failure("three"))), isFailureOf("two"));
+    }
+
+    @Test
+    public void canCountSuccessesAndFailures() {
+        ResultCounts counts = numbers().collect(countSuccessesAndFailures());
+
+        assertThat(counts, is(ResultCounts.of(90_000, 10_000)));
+        assertThat(counts.total(), is(100_000L));
+        assertThat(numbers().parallel().collect(countSuccessesAndFailures()), is(ResultCounts.of(90_000, 10_000)));
+    }
+
+    @Test
+    public void canSplitIntoDownstreamCollectors() {
+        Pair<Long, Integer> summary = numbers().collect(splitWith(counting(), summingInt(x -> x)));
+        Pair<Long, Integer> parallelSummary = numbers().parallel().collect(splitWith(counting(), summingInt(x -> x)));
+
+        int sumOfFailures = IntStream.range(0, SIZE).filter(x -> x % 10 == 0).sum();
+        assertThat(summary, is(Pair.of(90_000L, sumOfFailures)));
+        assertThat(parallelSummary, is(summary));
+    }
+
+    @Test
+    public void samplesAreBoundedAndDrawnFromTheFailures() {
+        List<Integer> sample = numbers().collect(sampleFailures(100));
+        List<Integer> parallelSample = numbers().parallel().collect(sampleFailures(100));
+
+        assertThat(sample.size(), is(100));
+        assertThat(parallelSample.size(), is(100));
+        assertThat(Stream.concat(sample.stream(), parallelSample.stream()).allMatch(x -> x % 10 == 0), is(true));
+        assertThat(new HashSet<>(sample).size(), is(100));
+        assertThat(new HashSet<>(parallelSample).size(), is(100));
+    }
+
+    @Test
+    public void samplesAllFailuresIfThereAreFewEnough() {
+        List<Integer> sample = numbers().limit(50).parallel().collect(sampleFailures(10));
+
+        assertThat(sample, containsInAnyOrder(0, 10, 20, 30, 40));
+    }
+
+    @Test
+    public void samplesAreSpreadAcrossTheWholeStream() {
+        List<Integer> sample = numbers().collect(sampleFailures(1000));
+
+        assertThat(sample.stream().anyMatch(x -> x < SIZE / 2), is(true));
+        assertThat(sample.stream().anyMatch(x -> x >= SIZE / 2), is(true));
+    }
+
+    private static Stream<Result<Integer, Integer>> numbers() {
+        return IntStream.range(0, SIZE).boxed().map(x -> x % 10 == 0 ? failure(x) : success(x));
+    }
+}
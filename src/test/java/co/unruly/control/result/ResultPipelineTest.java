@@ -0,0 +1,89 @@
+package co.unruly.control.result;
+
+import org.junit.Test;
+
+import java.util.function.Function;
+
+import static co.unruly.control.matchers.ResultMatchers.isFailureOf;
+import static co.unruly.control.matchers.ResultMatchers.isSuccessOf;
+import static co.unruly.control.result.Result.failure;
+import static co.unruly.control.result.Result.success;
+import static co.unruly.control.result.ResultPipeline.pipeline;
+import static co.unruly.control.result.Transformers.attempt;
+import static co.unruly.control.result.Transformers.onFailure;
+import static co.unruly.control.result.Transformers.onSuccess;
+import static co.unruly.control.result.Transformers.recover;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class ResultPipelineTest {
+
+    private final Function<Result<String, String>, Result<Integer, String>> pipeline = pipeline(String.class, String.class)
+        .onSuccess(String::length)
+        .attempt(x -> x % 2 == 0 ? success(x / 2) : failure("odd length: " + x))
+        .recover(f -> f.startsWith("odd length: 3") ? success(-1) : failure(f))
+        .onFailure(String::toUpperCase)
+        .compile();
+
+    private final Function<Result<String, String>, Result<Integer, String>> transformers = r -> r
+        .then(onSuccess(String::length))
+        .then(attempt((Integer x) -> x % 2 == 0 ? success(x / 2) : failure("odd length: " + x)))
+        .then(recover((String f) -> f.startsWith("odd length: 3") ? success(-1) : failure(f)))
+        .then(onFailure(String::toUpperCase));
+
+    @Test
+    public void behavesLikeTheEquivalentChainOfTransformers() {
+        Result<String, String> evenLength = success("four");
+        Result<String, String> oddLength = success("fiver");
+        Result<String, String> recovered = success("one");
+        Result<String, String> failed = failure("already failed");
+
+        assertThat(pipeline.apply(evenLength), isSuccessOf(2));
+        assertThat(pipeline.apply(oddLength), isFailureOf("ODD LENGTH: 5"));
+        assertThat(pipeline.apply(recovered), isSuccessOf(-1));
+        assertThat(pipeline.apply(failed), isFailureOf("ALREADY FAILED"));
+
+        for (Result<String, String> input : new Result[] { evenLength, oddLength, recovered, failed }) {
+            assertThat(pipeline.apply(input), is(transformers.apply(input)));
+        }
+    }
+
+    @Test
+    public void returnsInputWhenNoStepsApply() {
+        Function<Result<Integer, String>, Result<String, String>> successOnly = ResultPipeline.<Integer, String>pipeline()
+            .onSuccess(x -> x * 2)
+            .onSuccess(Object::toString)
+            .compile();
+
+        Result<Integer, String> failed = failure("nope");
+
+        assertThat(successOnly.apply(failed), sameInstance((Object) failed));
+        assertThat(successOnly.apply(success(21)), isSuccessOf("42"));
+    }
+
+    @Test
+    public void returnsResultFromLastApplicableStepWithoutRewrapping() {
+        Result<Integer, String> looked = success(7);
+
+        Function<Result<String, String>, Result<Integer, String>> lookup = ResultPipeline.<String, String>pipeline()
+            .attempt(__ -> looked)
+            .onFailure(String::trim)
+            .compile();
+
+        assertThat(lookup.apply(success("seven")), sameInstance(looked));
+    }
+
+    @Test
+    public void partialPipelinesCanBeExtendedIndependently() {
+        ResultPipeline<Integer, String, Integer, String> doubled = ResultPipeline.<Integer, String>pipeline()
+            .onSuccess(x -> x * 2);
+
+        Function<Result<Integer, String>, Result<Integer, String>> plusOne = doubled.onSuccess(x -> x + 1).compile();
+        Function<Result<Integer, String>, Result<Integer, String>> minusOne = doubled.onSuccess(x -> x - 1).compile();
+
+        assertThat(doubled.compile().apply(success(5)), isSuccessOf(10));
+        assertThat(plusOne.apply(success(5)), isSuccessOf(11));
+        assertThat(minusOne.apply(success(5)), isSuccessOf(9));
+    }
+}
@@ -1,13 +1,16 @@
 package co.unruly.control.result;
 
 import co.unruly.control.Lists;
+import co.unruly.control.Unit;
 import co.unruly.control.pair.Comprehensions;
 import co.unruly.control.pair.Pair;
 import org.hamcrest.core.Is;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -27,6 +30,8 @@ import static co.unruly.control.result.Transformers.*;
 import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toList;
 import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.*;
@@ -305,4 +310,68 @@ public class ResultsTest {
 
         assertThat(result, isFailureOf("NoNo"));
     }
+
+    @Test
+    public void sharesResultsForCommonValues() {
+        assertThat(success(Unit.UNIT), is(sameInstance(success(Unit.UNIT))));
+        assertThat(success(true), is(sameInstance(success(true))));
+        assertThat(failure(false), is(sameInstance(failure(false))));
+        assertThat(failure(Optional.empty()), is(sameInstance(failure(Optional.empty()))));
+        assertThat(success(null), is(sameInstance(success(null))));
+        assertThat(failure(ErrorCode.NOT_FOUND), is(sameInstance(failure(ErrorCode.NOT_FOUND))));
+        assertThat(failure(ErrorCode.WITH_BODY), is(sameInstance(failure(ErrorCode.WITH_BODY))));
+
+        assertThat(success(ErrorCode.NOT_FOUND), is(not(sameInstance(failure(ErrorCode.NOT_FOUND)))));
+        assertThat(success(ErrorCode.NOT_FOUND), isSuccessOf(ErrorCode.NOT_FOUND));
+        assertThat(failure(ErrorCode.NOT_FOUND), isFailureOf(ErrorCode.NOT_FOUND));
+    }
+
+    @Test
+    public void sharesResultsForRegisteredValuesByIdentity() {
+        String notFound = new String("not found");
+        Result.registerCanonicalFailure(notFound);
+
+        assertThat(failure(notFound), is(sameInstance(failure(notFound))));
+        assertThat(failure(new String("not found")), is(not(sameInstance(failure(notFound)))));
+        assertThat(failure(new String("not found")), is(failure(notFound)));
+        assertThat(success(notFound), is(not(sameInstance(success(notFound)))));
+    }
+
+    @Test
+    public void canUnregisterSharedValues() {
+        String gone = new String("gone");
+        assertThat(Result.registerCanonicalSuccess(gone), is(true));
+        assertThat(success(gone), is(sameInstance(success(gone))));
+
+        Result.unregisterCanonicalSuccess(gone);
+
+        assertThat(success(gone), is(not(sameInstance(success(gone)))));
+    }
+
+    @Test
+    public void refusesToRegisterValuesBeyondItsLimit() {
+        List<Object> registered = new ArrayList<>();
+        try {
+            Object value = new Object();
+            while (Result.registerCanonicalFailure(value)) {
+                registered.add(value);
+                value = new Object();
+            }
+
+            assertThat(registered.size() <= 256, is(true));
+            assertThat(failure(value), is(not(sameInstance(failure(value)))));
+        } finally {
+            registered.forEach(Result::unregisterCanonicalFailure);
+        }
+    }
+
+    enum ErrorCode {
+        NOT_FOUND,
+        WITH_BODY {
+            @Override
+            public String toString() {
+                return "with a body";
+            }
+        }
+    }
 }
@@ -2,17 +2,21 @@ package co.unruly.control.result;
 
 import org.junit.Test;
 
+import java.util.ConcurrentModificationException;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static co.unruly.control.result.Introducers.tryAndUnwrap;
+import static co.unruly.control.result.Introducers.tryAndUnwrapEach;
 import static co.unruly.control.result.Introducers.tryTo;
 import static co.unruly.control.result.Resolvers.collapse;
 import static co.unruly.control.result.Resolvers.ifFailed;
 import static co.unruly.control.result.Transformers.onFailure;
 import static co.unruly.control.result.Transformers.onSuccess;
+import static co.unruly.control.result.Transformers.onSuccessTry;
 import static co.unruly.control.result.Transformers.unwrapSuccesses;
 import static java.util.stream.Collectors.toList;
 import static org.hamcrest.CoreMatchers.is;
@@ -79,6 +83,153 @@ public class TryTest {
         ));
     }
 
+    @Test
+    public void canCaptureExceptionsWithoutStackTraces() {
+        Function<String, Result<Integer, CaughtException>> parse = tryTo(Integer::parseInt, ExceptionCapture.withoutStackTraces());
+
+        CaughtException failure = parse.apply("two").either(x -> null, f -> f);
+
+        assertThat(parse.apply("2"), is(Result.success(2)));
+        assertThat(failure.type(), is(NumberFormatException.class));
+        assertThat(failure.isA(IllegalArgumentException.class), is(true));
+        assertThat(failure.message(), is("For input string: \"two\""));
+        assertThat(failure.exception().isPresent(), is(false));
+        assertThat(parse.apply("two"), is(Result.failure(failure)));
+    }
+
+    @Test
+    public void canCaptureExceptionsKeepingStackTraces() {
+        Function<String, Result<String, CaughtException>> doSomething = tryTo(TryTest::throwsCheckedException, ExceptionCapture.withStackTraces());
+
+        CaughtException failure = doSomething.apply("throw").either(x -> null, f -> f);
+
+        assertThat(failure.type(), is(CustomCheckedException.class));
+        assertThat(failure.exception().get().getStackTrace().length > 0, is(true));
+    }
+
+    @Test
+    public void canMapKnownExceptionTypesToConstantFailures() {
+        ExceptionCapture<String> capture = ExceptionCapture.<String>mappingWith(Exception::getMessage)
+            .mapping(CustomCheckedException.class, "custom")
+            .mapping(Exception.class, "anything else");
+        Function<String, String> doSomething = tryTo(TryTest::throwsCheckedException, capture)
+            .andThen(ifFailed(f -> f));
+
+        assertThat(doSomething.apply("throw"), is("custom"));
+        assertThat(doSomething.apply("sneakyThrow"), is("anything else"));
+        assertThat(doSomething.apply("play nice"), is("Today, I was good"));
+    }
+
+    @Test
+    public void handlesExceptionsWithTheHandlerForTheirMostSpecificType() {
+        ExceptionCapture<String> capture = ExceptionCapture.<String>mappingWith(__ -> "unhandled")
+            .handling(RuntimeException.class, ex -> "runtime: " + ex.getMessage())
+            .handling(IllegalArgumentException.class, ex -> "illegal argument: " + ex.getMessage())
+            .handling(NumberFormatException.class, ex -> "number format: " + ex.getMessage())
+            .handling(CustomCheckedException.class, CustomCheckedException::specialisedMethod);
+
+        assertThat(capture.capture(new NumberFormatException("a")), is("number format: a"));
+        assertThat(capture.capture(new IllegalArgumentException("b")), is("illegal argument: b"));
+        assertThat(capture.capture(new IllegalStateException("c")), is("runtime: c"));
+        assertThat(capture.capture(new ConcurrentModificationException("d")), is("runtime: d"));
+        assertThat(capture.capture(new CustomCheckedException("e")), is("This is something only this exception can do"));
+        assertThat(capture.capture(new Exception("f")), is("unhandled"));
+        assertThat(capture.mapping(IllegalStateException.class, "replaced").capture(new IllegalStateException("g")), is("replaced"));
+    }
+
+    @Test
+    public void canCaptureExceptionsFromTransformers() {
+        ExceptionCapture<String> capture = ExceptionCapture.<String>mappingWith(Exception::getMessage)
+            .mapping(NumberFormatException.class, "not a number");
+
+        assertThat(Result.<String, String>success("two").then(onSuccessTry(Integer::parseInt, capture)), is(Result.failure("not a number")));
+        assertThat(Result.<String, String>success("2").then(onSuccessTry(Integer::parseInt, capture)), is(Result.success(2)));
+    }
+
+    @Test
+    public void stacklessExceptionsHaveNoStackTrace() {
+        StacklessException ex = new StacklessException("expected");
+
+        assertThat(ex.getStackTrace().length, is(0));
+        assertThat(tryTo(x -> { throw ex; }, ExceptionCapture.withoutStackTraces()).apply("anything"),
+            is(Result.failure(new CaughtException(ex, false))));
+    }
+
+    @Test
+    public void canCaptureExceptionsThrownWhileConsumingStreams() {
+        List<Result<Integer, String>> results = Stream.of("1,2,three,4", "five", "6")
+            .flatMap(tryAndUnwrapEach(TryTest::parseCommaSeparated, Exception::getMessage))
+            .collect(toList());
+
+        assertThat(results, contains(
+            Result.success(1),
+            Result.success(2),
+            Result.failure("For input string: \"three\""),
+            Result.failure("For input string: \"five\""),
+            Result.success(6)
+        ));
+    }
+
+    @Test
+    public void capturesExceptionsThrownWhileCreatingStreams() {
+        List<Result<Integer, Exception>> results = Stream.of("boom")
+            .flatMap(Introducers.<String, Integer, Exception>tryAndUnwrapEach(x -> { throw new IllegalStateException(x); }))
+            .collect(toList());
+
+        assertThat(results.size(), is(1));
+        assertThat(results.get(0).either(x -> "success", Exception::getMessage), is("boom"));
+    }
+
+    @Test
+    public void consumesStreamsLazilyAndClosesThemWhenDone() {
+        AtomicInteger produced = new AtomicInteger();
+        AtomicInteger closed = new AtomicInteger();
+        Function<String, Stream<Result<Integer, Exception>>> numbers = tryAndUnwrapEach(x -> Stream.iterate(1, n -> n + 1)
+            .peek(__ -> produced.incrementAndGet())
+            .onClose(closed::incrementAndGet));
+
+        assertThat(numbers.apply("go").limit(3).count(), is(3L));
+        assertThat(produced.get(), is(3));
+
+        Stream<Result<Integer, Exception>> failing = tryAndUnwrapEach(x -> Stream.of("1", "x", "3")
+            .map(Integer::parseInt)
+            .onClose(closed::incrementAndGet)).apply("go");
+        assertThat(failing.count(), is(2L));
+        assertThat(closed.get(), is(1));
+
+        failing.close();
+        assertThat(closed.get(), is(1));
+    }
+
+    @Test
+    public void splitsParallelStreams() {
+        Function<Integer, Stream<Result<Integer, String>>> numbers = tryAndUnwrapEach(
+            max -> IntStream.range(0, max).boxed().parallel().map(x -> {
+                if (x == 5_000) {
+                    throw new IllegalArgumentException("bad element");
+                }
+                return x;
+            }),
+            Exception::getMessage);
+
+        Stream<Result<Integer, String>> results = numbers.apply(100_000);
+        assertThat(results.isParallel(), is(true));
+
+        List<Result<Integer, String>> collected = results.collect(toList());
+        long failures = collected.stream().filter(r -> r.either(x -> false, f -> true)).count();
+        long successes = collected.size() - failures;
+
+        assertThat(failures, is(1L));
+        assertThat(successes > 50_000 && successes < 100_000, is(true));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void doesNotCaptureExceptionsThrownByConsumers() {
+        tryAndUnwrapEach((String x) -> Stream.of(1, 2, 3))
+            .apply("go")
+            .forEach(x -> { throw new IllegalStateException("consumer failed"); });
+    }
+
     private static String throwsRuntimeException(String instruction) {
         if("throw".equals(instruction)) {
             throw new RuntimeException("This is a naughty method");
@@ -96,6 +247,10 @@ public class TryTest {
         return "Today, I was good";
     }
 
+    private static Stream<Integer> parseCommaSeparated(String line) {
+        return Stream.of(line.split(",")).map(Integer::parseInt);
+    }
+
     private static Stream<Integer> throwsAndMakesStream(String possiblyNumber) {
         // adding one to make the range have an inclusive end
         return IntStream.range(1, Integer.parseInt(possiblyNumber) + 1).boxed();
@@ -7,11 +7,21 @@ import co.unruly.control.result.Result;
 import org.hamcrest.Matcher;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static co.unruly.control.matchers.ResultMatchers.isSuccessOf;
@@ -22,8 +32,10 @@ import static co.unruly.control.result.Transformers.onFailureDo;
 import static co.unruly.control.result.Transformers.onSuccessDo;
 import static co.unruly.control.validation.Validators.*;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
 import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.*;
 
@@ -291,6 +303,386 @@ public class ValidatorTest {
         assertThat(filteredValidation, isSuccessOf(42));
     }
 
+    @Test
+    public void isValidStopsAtTheFirstError() {
+        Validator<Integer, String> validator = compose(
+                rejectIf(divisibleBy(3), "fizz"),
+                rejectIf(divisibleBy(5), x -> { throw new AssertionError("should not exercise this method"); }));
+
+        assertThat(validator.isValid(4), is(true));
+        assertThat(validator.isValid(3), is(false));
+        assertThat(validator.isValid(15), is(false));
+    }
+
+    @Test
+    public void canReportOnlyTheFirstFewErrors() {
+        Validator<Integer, String> validator = compose(
+                rejectIf(divisibleBy(2), "even"),
+                rejectIf(divisibleBy(3), "fizz"),
+                rejectIf(divisibleBy(5), "buzz"),
+                rejectIf(divisibleBy(7), x -> { throw new AssertionError("should not exercise this method"); }));
+
+        assertThat(validator.firstErrors(210, 2), is(asList("even", "fizz")));
+        assertThat(validator.applyFirst(210, 3), isFailedValidationOf(210, "even", "fizz", "buzz"));
+        assertThat(validator.applyFirst(11, 3), isSuccessOf(11));
+    }
+
+    @Test
+    public void runsExpensiveValidatorsLast() {
+        Validator<Integer, String> validator = compose(
+                withCost(100, rejectIf(divisibleBy(2), "expensive even")),
+                rejectIf(divisibleBy(3), "fizz"),
+                withCost(10, rejectIf(divisibleBy(5), "pricey buzz")),
+                rejectIf(divisibleBy(7), "bazz"));
+
+        assertThat(validator.firstErrors(210, Integer.MAX_VALUE), is(asList("fizz", "bazz", "pricey buzz", "expensive even")));
+        assertThat(validator.firstErrors(210, 1), is(asList("fizz")));
+        assertThat(validator.cost(), is(110));
+    }
+
+    @Test
+    public void modesWorkWithStreamBasedValidators() {
+        Validator<Integer, String> streaming = x -> Stream.of("first", "second", "third").limit(x);
+
+        assertThat(streaming.isValid(0), is(true));
+        assertThat(streaming.isValid(2), is(false));
+        assertThat(streaming.firstErrors(3, 2), is(asList("first", "second")));
+        assertThat(compose(streaming, rejectIf(divisibleBy(2), "even")).apply(2), isFailedValidationOf(2, "first", "second", "even"));
+    }
+
+    @Test
+    public void tryToOnlyCatchesExceptionsFromTheValidatorItWraps() {
+        Validator<Integer, String> throwing = x -> { throw new IllegalStateException("boom " + x); };
+        Validator<Integer, String> failingMapper = mappingErrors(
+                tryTo(rejectIf(divisibleBy(2), "even"), RuntimeException::getMessage),
+                (x, error) -> { throw new UnsupportedOperationException("can't map " + error); });
+
+        assertThat(tryTo(throwing, RuntimeException::getMessage).firstErrors(3, 5), is(asList("boom 3")));
+        assertThat(failingMapper.isValid(3), is(true));
+        try {
+            failingMapper.isValid(2);
+            throw new AssertionError("Expected the mapper's exception to propagate");
+        } catch (UnsupportedOperationException ex) {
+            assertThat(ex.getMessage(), is("can't map even"));
+        }
+    }
+
+    @Test
+    public void tryOnOnlyCatchesExceptionsFromTheAccessorAndValidatorItWraps() {
+        Validator<Integer, String> failingMapper = mappingErrors(
+                tryOn(x -> x / (x - 1), Exception::getMessage, rejectIf(divisibleBy(2), "even")),
+                (x, error) -> { throw new UnsupportedOperationException("can't map " + error); });
+
+        try {
+            failingMapper.isValid(1);
+            throw new AssertionError("Expected the mapper's exception to propagate");
+        } catch (UnsupportedOperationException ex) {
+            assertThat(ex.getMessage(), is("can't map / by zero"));
+        }
+        try {
+            failingMapper.isValid(2);
+            throw new AssertionError("Expected the mapper's exception to propagate");
+        } catch (UnsupportedOperationException ex) {
+            assertThat(ex.getMessage(), is("can't map even"));
+        }
+    }
+
+    @Test
+    public void validateOnlyRunsTheValidatorOnceTheStreamIsConsumed() {
+        AtomicInteger calls = new AtomicInteger();
+        Validator<Integer, String> validator = rejectIf(counting(calls, divisibleBy(2)), "even");
+
+        Stream<String> errors = validator.validate(4);
+        assertThat(calls.get(), is(0));
+
+        assertThat(errors.collect(toList()), is(asList("even")));
+        assertThat(calls.get(), is(1));
+    }
+
+    @Test
+    public void parallelCompositionRunsValidatorsConcurrentlyAndReportsErrorsInOrder() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            CountDownLatch allStarted = new CountDownLatch(3);
+            Validator<Integer, String> validator = composeInParallel(executor,
+                    awaitingOthers(allStarted, rejectIf(divisibleBy(2), "even")),
+                    awaitingOthers(allStarted, rejectIf(divisibleBy(3), "fizz")),
+                    awaitingOthers(allStarted, rejectIf(divisibleBy(5), "buzz")));
+
+            assertThat(validator.apply(30), isFailedValidationOf(30, "even", "fizz", "buzz"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(timeout = 5000)
+    public void nestedParallelCompositionDoesNotDeadlockOnABoundedExecutor() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Validator<Integer, String> validator = composeInParallel(executor,
+                    composeInParallel(executor, rejectIf(divisibleBy(2), "even"), rejectIf(divisibleBy(3), "fizz")),
+                    composeInParallel(executor, rejectIf(divisibleBy(5), "buzz"), rejectIf(divisibleBy(7), "bazz")));
+
+            assertThat(validator.apply(210), isFailedValidationOf(210, "even", "fizz", "buzz", "bazz"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void parallelOnEachReportsErrorsInElementOrder() {
+        List<Integer> numbers = IntStream.range(0, 10_000).boxed().collect(toList());
+        Validator<List<Integer>, String> validator = onEachInParallel(x -> x, rejectIf(divisibleBy(1000), x -> x + " is round"));
+
+        assertThat(validator.firstErrors(numbers, Integer.MAX_VALUE), is(IntStream.range(0, 10)
+                .mapToObj(x -> (x * 1000) + " is round")
+                .collect(toList())));
+        assertThat(validator.isValid(asList(1, 2, 3)), is(true));
+        assertThat(validator.isValid(emptyList()), is(true));
+    }
+
+    private static <T, E> Validator<T, E> awaitingOthers(CountDownLatch started, Validator<T, E> validator) {
+        return t -> {
+            started.countDown();
+            try {
+                if (!started.await(1, TimeUnit.SECONDS)) {
+                    throw new AssertionError("Validators did not run concurrently");
+                }
+            } catch (InterruptedException ex) {
+                throw new AssertionError(ex);
+            }
+            return validator.validate(t);
+        };
+    }
+
+    @Test
+    public void compiledValidatorsReportTheSameErrorsAsTheValidatorsTheyCompile() {
+        Validator<Integer, String> validator = compose(
+                rejectIf(divisibleBy(3), "fizz"),
+                onlyIf(x -> x > 10, mappingErrors(
+                        on(x -> x % 10, compose(
+                                rejectIf(x -> x == 5, "ends in five"),
+                                withCost(10, acceptIf(x -> x < 8, x -> x + " is too high"))
+                        )),
+                        (x, error) -> x + ": " + error)),
+                (Validator<Integer, String>) x -> x == 99 ? Stream.of("ninety-nine") : Stream.empty()
+        );
+
+        Validator<Integer, String> compiled = compile(validator);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(compiled.validate(i).collect(toList()), is(validator.validate(i).collect(toList())));
+            assertThat(compiled.isValid(i), is(validator.isValid(i)));
+            assertThat(compiled.firstErrors(i, 1), is(validator.firstErrors(i, 1)));
+        }
+        assertThat(compiled.validate(99).collect(toList()), is(asList("fizz", "ninety-nine", "99: 9 is too high")));
+    }
+
+    @Test
+    public void compiledValidatorsEvaluateSharedAccessorsOncePerValidation() {
+        AtomicInteger calls = new AtomicInteger();
+        Function<String, Integer> length = s -> {
+            calls.incrementAndGet();
+            return s.length();
+        };
+
+        Validator<String, String> validator = compile(compose(
+                on(length, rejectIf(divisibleBy(2), "even length")),
+                on(length, rejectIf(divisibleBy(3), "length divisible by three")),
+                onlyIf(s -> s.startsWith("x"), on(length, acceptIf(x -> x < 5, "too long")))
+        ));
+
+        assertThat(validator.validate("xxxxxx").collect(toList()), is(asList("even length", "length divisible by three", "too long")));
+        assertThat(calls.get(), is(1));
+
+        assertThat(validator.validate("abcde").collect(toList()), is(emptyList()));
+        assertThat(calls.get(), is(2));
+    }
+
+    @Test
+    public void compiledValidatorsOnlyEvaluateAccessorsWhenNeeded() {
+        Validator<String, String> validator = compile(compose(
+                rejectIf(String::isEmpty, "empty"),
+                onlyIf(s -> !s.isEmpty(), on(s -> s.charAt(0), acceptIf(Character::isLetter, "must start with a letter")))
+        ));
+
+        assertThat(validator.validate("").collect(toList()), is(asList("empty")));
+        assertThat(validator.firstErrors("1", 1), is(asList("must start with a letter")));
+        assertThat(validator.isValid("a"), is(true));
+    }
+
+    @Test
+    public void canValidateBatchesIntoReports() {
+        Validator<Integer, String> fizzbuzz = compose(
+                rejectIf(divisibleBy(3), "fizz"),
+                rejectIf(divisibleBy(5), "buzz"));
+
+        ValidationReport<Integer, String> report = fizzbuzz.validateAll(asList(1, 3, 4, 5, 15));
+
+        assertThat(report.itemCount(), is(5));
+        assertThat(report.failureCount(), is(3));
+        assertThat(report.failedIndexes().boxed().collect(toList()), is(asList(1, 3, 4)));
+        assertThat(report.isValid(0), is(true));
+        assertThat(report.isValid(1), is(false));
+        assertThat(report.errorCount(2), is(2));
+        assertThat(report.error(2, 1), is("buzz"));
+        assertThat(report.distinctErrors(), is(asList("fizz", "buzz")));
+        assertThat(report.errorCode(1, 0), is(1));
+        assertThat(report.occurrences(0), is(2));
+        assertThat(report.occurrences(1), is(2));
+        assertThat(report.failure(2), is(validationFailure(15, "fizz", "buzz")));
+    }
+
+    @Test
+    public void batchReportsMaterialiseTheSameFailuresAsApplyingTheValidator() {
+        Validator<Integer, String> validator = compose(
+                rejectIf(divisibleBy(7), x -> "multiple of 7: " + x),
+                on(x -> x % 10, rejectIf(x -> x == 3, "ends in three")));
+        List<Integer> items = IntStream.range(0, 1000).boxed().collect(toList());
+
+        List<FailedValidation<Integer, String>> expected = items.stream()
+                .map(validator)
+                .flatMap(failures())
+                .collect(toList());
+
+        assertThat(validator.validateAll(items).failures().collect(toList()), is(expected));
+        assertThat(validator.validateAll(new LinkedHashSet<>(items)).failures().collect(toList()), is(expected));
+    }
+
+    @Test
+    public void parallelBatchValidationProducesTheSameReportAsSequential() {
+        Validator<Integer, String> validator = compose(
+                rejectIf(divisibleBy(3), "fizz"),
+                rejectIf(divisibleBy(5), x -> x % 2 == 0 ? "even buzz" : "odd buzz"));
+        List<Integer> items = IntStream.range(0, 100_000).boxed().collect(toList());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            ValidationReport<Integer, String> sequential = validator.validateAll(items);
+            ValidationReport<Integer, String> parallel = validator.validateAllInParallel(items, executor);
+
+            assertThat(parallel.failureCount(), is(sequential.failureCount()));
+            assertThat(parallel.failedIndexes().boxed().collect(toList()), is(sequential.failedIndexes().boxed().collect(toList())));
+            assertThat(parallel.failures().collect(toList()), is(sequential.failures().collect(toList())));
+            assertThat(parallel.distinctErrors().size(), is(3));
+            assertThat(validator.validateAllInParallel(emptyList()).allValid(), is(true));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void incrementalValidatorsOnlyRerunRulesForChangedFields() {
+        AtomicInteger quantityChecks = new AtomicInteger();
+        AtomicInteger nameChecks = new AtomicInteger();
+        AtomicInteger wholeItemChecks = new AtomicInteger();
+        Function<Pair<Integer, String>, Integer> quantity = Pair::left;
+        Function<Pair<Integer, String>, String> name = Pair::right;
+
+        IncrementalValidator<Pair<Integer, String>, String> validator = incremental(compose(
+                on(quantity, rejectIf(counting(quantityChecks, x -> x < 0), "negative quantity")),
+                compose(
+                        on(name, rejectIf(counting(nameChecks, String::isEmpty), "no name")),
+                        rejectIf(counting(wholeItemChecks, p -> p.left > p.right.length()), "quantity exceeds name length"))
+        ));
+
+        IncrementalValidator.Validation<Pair<Integer, String>, String> validation = validator.validateIncrementally(Pair.of(-1, ""));
+        assertThat(validation.errors(), is(asList("negative quantity", "no name")));
+
+        validation = validator.revalidate(validation, Pair.of(3, ""), quantity);
+        assertThat(validation.errors(), is(asList("no name", "quantity exceeds name length")));
+
+        validation = validator.revalidate(validation, Pair.of(3, "abc"), name);
+        assertThat(validation.isValid(), is(true));
+        assertThat(validation.toResult(), isSuccessOf(Pair.of(3, "abc")));
+
+        assertThat(quantityChecks.get(), is(2));
+        assertThat(nameChecks.get(), is(2));
+        assertThat(wholeItemChecks.get(), is(3));
+
+        assertThat(validator.revalidate(validation, Pair.of(3, ""), name).errors(), is(validator.validate(Pair.of(3, "")).collect(toList())));
+    }
+
+    @Test
+    public void incrementalValidatorsRerunEachRuleOnceWhenAFieldIsNamedTwice() {
+        AtomicInteger quantityChecks = new AtomicInteger();
+        Function<Pair<Integer, String>, Integer> quantity = Pair::left;
+        IncrementalValidator<Pair<Integer, String>, String> validator = incremental(
+                on(quantity, rejectIf(counting(quantityChecks, x -> x < 0), "negative quantity")));
+
+        IncrementalValidator.Validation<Pair<Integer, String>, String> validation = validator.validateIncrementally(Pair.of(1, "a"));
+        validation = validator.revalidate(validation, Pair.of(-1, "a"), quantity, quantity);
+
+        assertThat(validation.errors(), is(asList("negative quantity")));
+        assertThat(quantityChecks.get(), is(2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void incrementalValidatorsRejectAccessorsTheyDontKnow() {
+        Function<Pair<Integer, String>, Integer> quantity = Pair::left;
+        IncrementalValidator<Pair<Integer, String>, String> validator = incremental(on(quantity, rejectIf(x -> x < 0, "negative quantity")));
+
+        validator.revalidate(validator.validateIncrementally(Pair.of(1, "a")), Pair.of(2, "a"), Pair::left);
+    }
+
+    @Test
+    public void streamingValidatorsSplitValidItemsFromFailures() {
+        Validator<Integer, String> fizzbuzz = compose(
+                rejectIf(divisibleBy(3), "fizz"),
+                rejectIf(divisibleBy(5), "buzz"));
+        List<Integer> valid = new ArrayList<>();
+        List<FailedValidation<Integer, String>> invalid = new ArrayList<>();
+
+        StreamingValidator.Summary summary = streaming(fizzbuzz)
+                .keepingFirstErrors(1)
+                .validate(Stream.iterate(1, x -> x + 1).limit(15), valid::add, invalid::add);
+
+        assertThat(valid, is(asList(1, 2, 4, 7, 8, 11, 13, 14)));
+        assertThat(invalid.get(6), is(validationFailure(15, "fizz")));
+        assertThat(summary.validCount(), is(8L));
+        assertThat(summary.invalidCount(), is(7L));
+    }
+
+    @Test
+    public void concurrentStreamingValidatorsBoundWorkInFlightAndPreserveOrder() {
+        AtomicInteger pulled = new AtomicInteger();
+        AtomicInteger emitted = new AtomicInteger();
+        AtomicInteger mostInFlight = new AtomicInteger();
+        Iterator<Integer> source = IntStream.range(0, 10_000).peek(__ -> pulled.incrementAndGet()).iterator();
+        Validator<Integer, String> validator = rejectIf(divisibleBy(7), x -> x + " is a multiple of 7");
+        List<Integer> valid = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            StreamingValidator.Summary summary = streaming(validator)
+                    .inFlight(8, executor)
+                    .validate(source, x -> {
+                        mostInFlight.accumulateAndGet(pulled.get() - emitted.incrementAndGet(), Math::max);
+                        valid.add(x);
+                    }, failure -> {
+                        mostInFlight.accumulateAndGet(pulled.get() - emitted.incrementAndGet(), Math::max);
+                    });
+
+            assertThat(valid, is(IntStream.range(0, 10_000).filter(x -> x % 7 != 0).boxed().collect(toList())));
+            assertThat(summary.invalidCount(), is(1429L));
+            assertThat(mostInFlight.get() <= 8, is(true));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void streamingValidatorsRethrowExceptionsFromValidators() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            streaming(rejectIf((Integer x) -> { throw new IllegalStateException("broken"); }, "never"))
+                    .inFlight(4, executor)
+                    .validate(asList(1, 2, 3), x -> {}, failure -> {});
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void blammo() {
         safelyDoSomethingDodgy(x -> { throw new Exception("hello"); }, "cheese");
@@ -309,6 +701,13 @@ public class ValidatorTest {
         throw new Exception(message);
     }
 
+    private static <T> Predicate<T> counting(AtomicInteger calls, Predicate<T> test) {
+        return x -> {
+            calls.incrementAndGet();
+            return test.test(x);
+        };
+    }
+
     private static Predicate<Integer> divisibleBy(int factor) {
         return x -> x % factor == 0;
     }